@@ -32,9 +32,14 @@ android {
     buildFeatures {
         viewBinding = true
     }
+    androidResources {
+        // The digit model is memory-mapped straight from the APK
+        noCompress += "tflite"
+    }
 }
 
 dependencies {
+    implementation(project(":core"))
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.constraintlayout)
@@ -48,6 +53,8 @@ dependencies {
     // GSON converter for Retrofit
     implementation(libs.converter.gson)
     implementation(libs.okhttp)
+    // On-device digit recognition
+    implementation(libs.tensorflow.lite)
 
 
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.sudokusolver.ApiServices;
+
+import com.example.sudokusolver.Models.GridCodec;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+// Decodes SudokuGrid responses sent as application/x-sudoku-grid without going through
+// reflection; any other content type is handed to the next converter (Gson) unchanged.
+// Must be registered before GsonConverterFactory, which accepts every type.
+public final class GridConverterFactory extends Converter.Factory {
+
+    private static final MediaType GRID_TYPE = MediaType.get(GridCodec.MEDIA_TYPE);
+
+    public static GridConverterFactory create() {
+        return new GridConverterFactory();
+    }
+
+    private GridConverterFactory() {
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+                                                            Retrofit retrofit) {
+        if (type != SudokuGrid.class) {
+            return null;
+        }
+        Converter<ResponseBody, SudokuGrid> json =
+                retrofit.nextResponseBodyConverter(this, type, annotations);
+        return body -> {
+            MediaType contentType = body.contentType();
+            if (contentType != null
+                    && GRID_TYPE.type().equals(contentType.type())
+                    && GRID_TYPE.subtype().equals(contentType.subtype())) {
+                try {
+                    return GridCodec.decodeGrid(body.bytes());
+                } finally {
+                    body.close();
+                }
+            }
+            return json.convert(body);
+        };
+    }
+}
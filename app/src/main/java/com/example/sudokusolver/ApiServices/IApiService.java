@@ -4,6 +4,7 @@ import com.example.sudokusolver.Models.SudokuGrid;
 
 import okhttp3.MultipartBody;
 import retrofit2.Call;
+import retrofit2.http.Headers;
 import retrofit2.http.Multipart;
 import retrofit2.http.POST;
 import retrofit2.http.Part;
@@ -12,6 +13,8 @@ public interface IApiService{
 //    @POST("recognize")
 //    Call<SudokuGrid> getResponse();
 
+    // Prefer the compact binary grid; servers that don't know it still answer with JSON
+    @Headers("Accept: application/x-sudoku-grid, application/json;q=0.5")
     @Multipart
     @POST("recognize")
     Call<SudokuGrid> uploadImage(
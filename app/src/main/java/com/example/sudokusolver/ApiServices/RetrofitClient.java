@@ -6,21 +6,29 @@ import retrofit2.converter.gson.GsonConverterFactory;
 
 public class RetrofitClient {
     private static final String BASE_URL = "http://13.126.181.12:5000/";
+    // One client for the app's lifetime, so its connection pool and threads are shared
+    private static final OkHttpClient CLIENT = new OkHttpClient.Builder()
+            .retryOnConnectionFailure(true) // Auto-retry on failures
+            .build();
     private static Retrofit retrofit = null;
+    private static IApiService apiService = null;
 
-    public static Retrofit getClient() {
-
-        OkHttpClient client = new OkHttpClient.Builder()
-                .retryOnConnectionFailure(true) // Auto-retry on failures
-                .build();
-
+    public static synchronized Retrofit getClient() {
         if (retrofit == null) {
             retrofit = new Retrofit.Builder()
                     .baseUrl(BASE_URL)
-                    .client(client) // Attach custom OkHttpClient
+                    .client(CLIENT) // Attach custom OkHttpClient
+                    .addConverterFactory(GridConverterFactory.create())
                     .addConverterFactory(GsonConverterFactory.create())
                     .build();
         }
         return retrofit;
     }
+
+    public static synchronized IApiService getApiService() {
+        if (apiService == null) {
+            apiService = getClient().create(IApiService.class);
+        }
+        return apiService;
+    }
 }
@@ -5,14 +5,21 @@ import android.app.Activity;
 import android.content.ContentResolver;
 import android.content.Intent;
 import android.content.pm.PackageManager;
+import android.content.res.ColorStateList;
 import android.database.Cursor;
+import android.graphics.Bitmap;
+import android.graphics.Color;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
 
 import com.example.sudokusolver.ApiServices.IApiService;
 import com.example.sudokusolver.ApiServices.RetrofitClient;
+import com.example.sudokusolver.Models.SolveResult;
 import com.example.sudokusolver.Models.SudokuGrid;
+import com.example.sudokusolver.Recognition.DigitRecognizer;
+import com.example.sudokusolver.Recognition.ImagePreprocessor;
+import com.example.sudokusolver.Storage.HistoryStore;
 
 import androidx.activity.result.ActivityResult;
 import androidx.activity.result.ActivityResultCallback;
@@ -26,8 +33,10 @@ import android.os.Environment;
 import android.os.Handler;
 import android.os.Looper;
 import android.provider.MediaStore;
+import android.text.Editable;
 import android.text.InputFilter;
 import android.text.InputType;
+import android.text.TextWatcher;
 import android.util.Log;
 import android.view.Gravity;
 import android.view.View;
@@ -40,7 +49,9 @@ import androidx.navigation.Navigation;
 import androidx.navigation.ui.AppBarConfiguration;
 import androidx.navigation.ui.NavigationUI;
 
-import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+import com.example.sudokusolver.SolverAlgo.AmbiguityResolver;
+import com.example.sudokusolver.SolverAlgo.HintEngine;
+import com.example.sudokusolver.SolverAlgo.IncrementalValidator;
 import com.example.sudokusolver.databinding.ActivityMainBinding;
 
 import android.view.Menu;
@@ -58,7 +69,6 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -80,9 +90,30 @@ public class MainActivity extends AppCompatActivity {
     private EditText[][] sudokuCells = new EditText[9][9];
     private  SudokuGrid ApiResponse = new SudokuGrid();
 
-    // for background running
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    // Background solving on a warmed-up solver; created once in onCreate
+    private SolverService solverService;
+    // Photos are read on-device first; the /recognize endpoint is the fallback
+    private final ExecutorService recognitionExecutor = Executors.newSingleThreadExecutor();
     private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+    // Loaded on first use on 'recognitionExecutor' and only touched there; null if unavailable
+    private DigitRecognizer recognizer;
+    private boolean recognizerLoaded;
+    // Fixes likely misreads from the recognizer's probabilities; used on 'recognitionExecutor'
+    private final AmbiguityResolver ambiguityResolver = new AmbiguityResolver();
+    // Mirrors the cells as they are edited so conflicts show up without a full validation pass
+    private final IncrementalValidator validator = new IncrementalValidator();
+    // Follows the same edits to answer hint and check requests without solving from scratch
+    private final HintEngine hintEngine = new HintEngine();
+    // Past scans and solves, opened on 'recognitionExecutor' and appended to there; null until
+    // open or if the file is unusable. Lookups are cheap enough for the main thread.
+    private volatile HistoryStore history;
+    // Source image of the grid being shown, recorded with its solve; NO_SOURCE for typed grids
+    private long lastSourceHash = HistoryStore.NO_SOURCE;
+    private static final String HISTORY_FILE = "history.bin";
+    private static final long STALE_PHOTO_MS = 60 * 60 * 1000;
+    // Upper bound on one solve so a pathological grid cannot hold the solver thread
+    private static final long SOLVE_TIMEOUT_MS = 5000;
+    private ColorStateList defaultCellColors;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -97,6 +128,13 @@ public class MainActivity extends AppCompatActivity {
 //        appBarConfiguration = new AppBarConfiguration.Builder(navController.getGraph()).build();
 //        NavigationUI.setupActionBarWithNavController(this, navController, appBarConfiguration);
 
+        solverService = new SolverService();
+        solverService.warmUp();
+        recognitionExecutor.execute(() -> {
+            openHistory();
+            deleteStalePhotos();
+        });
+
         binding.mainLayout.setVisibility(View.GONE);
         SetGridCells();
 
@@ -113,47 +151,137 @@ public class MainActivity extends AppCompatActivity {
             checkPermissionsAndOpenFilePicker();
         });
         binding.buttonReset.setOnClickListener(v -> {
+            lastSourceHash = HistoryStore.NO_SOURCE;
             if (ApiResponse != null){
                 ApiResponse.resetGrid();
                 updateGridFromModel();
+                hintEngine.load(ApiResponse.getCells());
             }
         });
         binding.buttonSolver.setOnClickListener(v -> {
             if (ApiResponse == null){
                 return;
             }
-            updateModelFromGrid(); // update ApiResponse based on user inputs
+            // ApiResponse is kept in sync by the cell watchers, so no re-read or revalidation here
+            if (!validator.isValid()) {
+                Toast.makeText(MainActivity.this, "Error: Invalid Sudoku Grid: Violates Sudoku rules.", Toast.LENGTH_LONG).show();
+                return;
+            }
+            byte[] givens = ApiResponse.getCells().clone();
+            HistoryStore store = history;
+            HistoryStore.Entry previous = store != null ? store.findByGivens(givens) : null;
+            if (previous != null && previous.getStatus() != SolveResult.Status.CANCELLED) {
+                onSolved(previous.toResult());
+                return;
+            }
             binding.progressBar.setVisibility(View.VISIBLE); // Show spinner
-            executor.execute(() -> {
-                SudokuSolver solver = new SudokuSolver();
-                boolean multipleSolutions;
-                String error = null;
-
-                try {
-                    multipleSolutions = solver.solveSudoku(ApiResponse);
-                } catch (IllegalArgumentException e) {
-                    error = e.getMessage();
-                    multipleSolutions = false;
-                }
+            long sourceHash = lastSourceHash;
+            // A new tap replaces the solve in flight; edits cancel it through onCellEdited
+            solverService.solve(givens, SOLVE_TIMEOUT_MS, result -> {
+                recordSolve(givens, result, sourceHash);
+                onSolved(result);
+            });
+        });
 
-                boolean finalMultipleSolutions = multipleSolutions;
-                String finalError = error;
+    }
 
-                mainThreadHandler.post(() -> {
-                    binding.progressBar.setVisibility(View.GONE); // Hide spinner
+    @Override
+    protected void onDestroy() {
+        solverService.shutdown();
+        recognitionExecutor.execute(() -> {
+            if (recognizer != null) {
+                recognizer.close();
+            }
+            closeHistory();
+        });
+        recognitionExecutor.shutdown();
+        super.onDestroy();
+    }
 
-                    if (finalError != null) {
-                        Toast.makeText(MainActivity.this, "Error: " + finalError, Toast.LENGTH_LONG).show();
-                    } else {
-                        if (finalMultipleSolutions) {
-                            Toast.makeText(MainActivity.this, "Multiple solutions found. Showing one.", Toast.LENGTH_LONG).show();
-                        }
-                        updateGridFromModel();
-                    }
-                });
-            });
+    private void onSolved(SolveResult result) {
+        binding.progressBar.setVisibility(View.GONE); // Hide spinner
+        switch (result.getStatus()) {
+            case INVALID:
+                Toast.makeText(this, "Error: Invalid Sudoku Grid: Violates Sudoku rules.", Toast.LENGTH_LONG).show();
+                return;
+            case UNSOLVABLE:
+                Toast.makeText(this, "Error: No solution exists for this Sudoku.", Toast.LENGTH_LONG).show();
+                return;
+            case CANCELLED:
+                Toast.makeText(this, "Error: Solving timed out.", Toast.LENGTH_LONG).show();
+                return;
+            case MULTIPLE:
+                Toast.makeText(this, "Multiple solutions found. Showing one.", Toast.LENGTH_LONG).show();
+                break;
+            default:
+                break;
+        }
+        ApiResponse.setCells(result.getSolution());
+        updateGridFromModel();
+    }
+
+    // Runs on 'recognitionExecutor'. A damaged file is set aside rather than blocking the app.
+    private void openHistory() {
+        File file = new File(getFilesDir(), HISTORY_FILE);
+        try {
+            history = HistoryStore.open(file);
+        } catch (IOException e) {
+            Log.w("MainActivity", "Discarding unreadable history", e);
+            file.renameTo(new File(getFilesDir(), HISTORY_FILE + ".bad"));
+            try {
+                history = HistoryStore.open(file);
+            } catch (IOException retry) {
+                Log.e("MainActivity", "History unavailable", retry);
+            }
+        }
+    }
+
+    private void closeHistory() {
+        HistoryStore store = history;
+        history = null;
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                Log.w("MainActivity", "Closing history failed", e);
+            }
+        }
+    }
+
+    // Stores a finished solve so the same puzzle, or a re-scan of the same photo, is answered at once
+    private void recordSolve(byte[] givens, SolveResult result, long sourceHash) {
+        if (result.getStatus() == SolveResult.Status.CANCELLED) {
+            return; // A timeout says nothing about the puzzle
+        }
+        long timestamp = System.currentTimeMillis();
+        recognitionExecutor.execute(() -> {
+            HistoryStore store = history;
+            if (store == null) {
+                return;
+            }
+            try {
+                store.append(givens, result, sourceHash, timestamp);
+            } catch (IOException e) {
+                Log.w("MainActivity", "Could not record solve", e);
+            }
         });
+    }
 
+    // Camera photos only live until they are read; this clears any left by a crash or kill.
+    // Recent ones are spared in case a capture is still in progress.
+    private void deleteStalePhotos() {
+        File dir = getExternalFilesDir(Environment.DIRECTORY_PICTURES);
+        File[] photos = dir != null
+                ? dir.listFiles((parent, name) -> name.startsWith("JPEG_") && name.endsWith(".jpg")) : null;
+        if (photos == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - STALE_PHOTO_MS;
+        for (File photo : photos) {
+            if (photo.lastModified() < cutoff) {
+                photo.delete();
+            }
+        }
     }
 
     @Override
@@ -174,16 +302,76 @@ public class MainActivity extends AppCompatActivity {
 //        if (id == R.id.action_settings) {
 //            return true;
 //        }
+        if (id == R.id.action_hint) {
+            showHint();
+            return true;
+        }
+        if (id == R.id.action_check) {
+            checkEntries();
+            return true;
+        }
 
         return super.onOptionsItemSelected(item);
     }
 
 
 
+    // Points at the next cell to fill, or at a wrong entry, without filling anything in
+    private void showHint() {
+        HintEngine.Hint hint = hintEngine.nextStep();
+        if (hint == null) {
+            Toast.makeText(this, "No hint available.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        int row = hint.getCell() / 9;
+        int col = hint.getCell() % 9;
+        String where = "Row " + (row + 1) + ", column " + (col + 1);
+        String message;
+        if (hint.isCorrection()) {
+            message = where + " should be " + hint.getDigit() + ".";
+        } else if (hint.getTechnique() != null) {
+            message = where + " can be filled in (" + hint.getTechnique() + ").";
+        } else {
+            message = where + " is " + hint.getDigit() + ".";
+        }
+        sudokuCells[row][col].requestFocus();
+        Toast.makeText(this, message, Toast.LENGTH_LONG).show();
+    }
+
+    // Flags entries that cannot lead to the solution; givens are taken as read
+    private void checkEntries() {
+        int wrong = 0;
+        int first = -1;
+        for (int cell = 0; cell < 81; cell++) {
+            if (!hintEngine.isGiven(cell) && !hintEngine.isCorrect(cell)) {
+                wrong++;
+                if (first < 0) {
+                    first = cell;
+                }
+            }
+        }
+        if (wrong == 0) {
+            Toast.makeText(this, "No mistakes so far.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        sudokuCells[first / 9][first % 9].requestFocus();
+        Toast.makeText(this, wrong + " wrong entr" + (wrong == 1 ? "y" : "ies") + ".", Toast.LENGTH_LONG).show();
+    }
+
     private void  SetGridCells(){        // set gird view
         int cellSize = dpToPx(38); // Each cell is 40dp
+        validator.setListener((index, conflicting) -> {
+            EditText cell = sudokuCells[index / 9][index % 9];
+            if (conflicting) {
+                cell.setTextColor(Color.RED);
+            } else {
+                cell.setTextColor(defaultCellColors);
+            }
+        });
         for (int row = 0; row < 9; row++) {
             for (int col = 0; col < 9; col++) {
+                final int cellRow = row;
+                final int cellCol = col;
                 EditText cell = new EditText(this);
                 cell.setLayoutParams(new ViewGroup.LayoutParams(cellSize, cellSize));
                 cell.setGravity(Gravity.CENTER);
@@ -191,36 +379,168 @@ public class MainActivity extends AppCompatActivity {
                 cell.setInputType(InputType.TYPE_CLASS_NUMBER);
                 cell.setFilters(new InputFilter[]{new InputFilter.LengthFilter(1)}); // Only 1 digit
                 cell.setBackgroundResource(R.drawable.sudoku_cell_bg); // optional border
+                cell.addTextChangedListener(new TextWatcher() {
+                    @Override
+                    public void beforeTextChanged(CharSequence text, int start, int count, int after) {
+                    }
+
+                    @Override
+                    public void onTextChanged(CharSequence text, int start, int before, int count) {
+                    }
+
+                    @Override
+                    public void afterTextChanged(Editable text) {
+                        onCellEdited(cellRow, cellCol, parseCell(text.toString()));
+                    }
+                });
                 sudokuCells[row][col] = cell; // store reference
                 binding.sudokuGrid.addView(cell);
             }
         }
+        defaultCellColors = sudokuCells[0][0].getTextColors();
+    }
+
+    // Keeps the model and the validator in step with every edit, typed or set from code
+    private void onCellEdited(int row, int col, int value) {
+        cancelPendingSolve();
+        if (ApiResponse != null) {
+            ApiResponse.setCell(row, col, value);
+        }
+        validator.set(row * 9 + col, value);
+        hintEngine.set(row * 9 + col, value);
+    }
+
+    // Aborts the solve in flight, if any; its result will be dropped when it arrives
+    private void cancelPendingSolve() {
+        if (solverService.cancel()) {
+            binding.progressBar.setVisibility(View.GONE);
+        }
+    }
+
+    private int parseCell(String cellText) {
+        cellText = cellText.trim();
+        if (cellText.isEmpty()) {
+            return 0;
+        }
+        try {
+            int value = Integer.parseInt(cellText);
+            if (value < 1 || value > 9) {
+                return 0; // Optional: ignore invalid numbers
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            return 0; // Non-numeric input is treated as empty
+        }
     }
+
     private int dpToPx(int dp) {
         float density = getResources().getDisplayMetrics().density;
         return Math.round(dp * density);
     }
 
-    private  void ApiCall(File file){
-        if (ApiResponse != null){
-            ApiResponse.resetGrid();
+    // Answers a photo seen before from the history; otherwise reads it on-device first and only
+    // uploads it when that fails. 'temporary' is deleted once it has been read. The board and
+    // ApiResponse keep the current puzzle until showPuzzle() replaces both with a new one.
+    private  void ApiCall(Uri image, File temporary){
+        binding.progressBar.setVisibility(View.VISIBLE); // Show spinner
+        ContentResolver resolver = getContentResolver();
+        recognitionExecutor.execute(() -> {
+            long sourceHash;
+            HistoryStore.Entry previous;
+            Bitmap photo;
+            try {
+                sourceHash = ImagePreprocessor.hash(resolver, image);
+                HistoryStore store = history;
+                previous = store != null ? store.findBySource(sourceHash) : null;
+                photo = previous == null
+                        ? ImagePreprocessor.decode(resolver, image, DigitRecognizer.MIN_DECODE_SIDE) : null;
+            } catch (IOException | RuntimeException e) {
+                mainThreadHandler.post(() -> {
+                    binding.progressBar.setVisibility(View.GONE);
+                    Toast.makeText(MainActivity.this, "Invalid image: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+                });
+                return;
+            } finally {
+                if (temporary != null) {
+                    temporary.delete();
+                }
+            }
+            if (previous != null) {
+                mainThreadHandler.post(() -> {
+                    binding.progressBar.setVisibility(View.GONE);
+                    lastSourceHash = sourceHash;
+                    ApiResponse = new SudokuGrid(previous.getGivens());
+                    showPuzzle();
+                });
+                return;
+            }
+            SudokuGrid grid = recognizeOnDevice(photo);
+            int corrected = grid != null ? autoCorrect(grid) : 0;
+            // The server only works at 450px, so anything bigger would be wasted upload
+            Bitmap upload = grid == null ? ImagePreprocessor.prepareForUpload(photo) : null;
+            photo.recycle();
+            mainThreadHandler.post(() -> {
+                lastSourceHash = sourceHash;
+                if (grid == null) {
+                    uploadForRecognition(upload);
+                    return;
+                }
+                binding.progressBar.setVisibility(View.GONE);
+                ApiResponse = grid;
+                showPuzzle();
+                if (corrected > 0) {
+                    Toast.makeText(MainActivity.this, "Corrected " + corrected + " likely misread cell(s).", Toast.LENGTH_LONG).show();
+                }
+            });
+        });
+    }
+
+    // Runs on 'recognitionExecutor'; null when the photo has to go to the server instead
+    private SudokuGrid recognizeOnDevice(Bitmap photo) {
+        if (!recognizerLoaded) {
+            recognizer = DigitRecognizer.create(this);
+            recognizerLoaded = true;
         }
-        if (!file.exists() || file.length() == 0) {
-            Toast.makeText(this, "Invalid file: not found or empty", Toast.LENGTH_SHORT).show();
-            return;
+        if (recognizer == null) {
+            return null;
         }
-        binding.progressBar.setVisibility(View.VISIBLE); // Show spinner
-        RequestBody requestFile = RequestBody.create(MediaType.parse("image/jpeg"), file);
-        MultipartBody.Part imagePart = MultipartBody.Part.createFormData("image", file.getName(), requestFile);
-        IApiService apiService = RetrofitClient.getClient().create(IApiService.class);
+        try {
+            return recognizer.recognize(photo);
+        } catch (RuntimeException e) {
+            Log.w("MainActivity", "On-device recognition failed, falling back to the server", e);
+            return null;
+        }
+    }
+
+    // Replaces likely misreads so the grid is valid with one solution; returns the cells changed
+    private int autoCorrect(SudokuGrid grid) {
+        AmbiguityResolver.Resolution resolution = ambiguityResolver.resolve(grid);
+        if (resolution == null) {
+            return 0; // Left as read for the user to fix
+        }
+        grid.setCells(resolution.getGivens());
+        return resolution.getChangedCells().length;
+    }
+
+    private void uploadForRecognition(Bitmap image) {
+        // Encoded while the request is written, straight into the connection
+        RequestBody requestFile = ImagePreprocessor.jpegBody(image);
+        MultipartBody.Part imagePart = MultipartBody.Part.createFormData("image", "sudoku.jpg", requestFile);
+        IApiService apiService = RetrofitClient.getApiService();
         Call<SudokuGrid> call = apiService.uploadImage(imagePart);
         call.enqueue(new Callback<SudokuGrid>() {
             @Override
             public void onResponse(Call<SudokuGrid> call, Response<SudokuGrid> response) {
+                image.recycle();
                 if (response.isSuccessful()) {
-                    ApiResponse = response.body();
-                    // bind output with UI
-                    updateGridFromModel();
+                    SudokuGrid grid = response.body();
+                    if (!isReadable(grid)) {
+                        Toast.makeText(MainActivity.this, "API_ERROR: unreadable grid", Toast.LENGTH_LONG).show();
+                    } else {
+                        ApiResponse = grid;
+                        // bind output with UI
+                        showPuzzle();
+                    }
 
                 } else {
                     Toast.makeText(MainActivity.this,  "API_ERROR Code: " + response.code(), Toast.LENGTH_LONG).show();
@@ -229,6 +549,7 @@ public class MainActivity extends AppCompatActivity {
             }
             @Override
             public void onFailure(Call<SudokuGrid> call, Throwable t) {
+                image.recycle();
                 binding.progressBar.setVisibility(View.GONE); // Show spinner
                 Toast.makeText(MainActivity.this,  t.getMessage(), Toast.LENGTH_LONG).show();
                 updateGridFromModel();
@@ -300,14 +621,11 @@ public class MainActivity extends AppCompatActivity {
                 @Override
                 public void onActivityResult(ActivityResult result) {
                     if (result.getResultCode() == Activity.RESULT_OK) {
-                        // Read the temporary file
+                        // Recognize, on-device or through the API; the photo is deleted once read
                         File tempFile = new File(currentPhotoPath);
-                        // Upload to API
-                        ApiCall(tempFile);
-                        Toast.makeText(MainActivity.this, "Image saved to: " + currentPhotoPath, Toast.LENGTH_SHORT).show();
-                        // Delete the temporary file
-                       // tempFile.delete();
+                        ApiCall(Uri.fromFile(tempFile), tempFile);
                     }else {
+                        new File(currentPhotoPath).delete();
                         Toast.makeText(MainActivity.this, "Image capture failed", Toast.LENGTH_SHORT).show();
                     }
                 }
@@ -374,42 +692,43 @@ public class MainActivity extends AppCompatActivity {
     result -> {
         if (result.getResultCode() == Activity.RESULT_OK && result.getData() != null) {
             Uri fileUri = result.getData().getData();
-            try {
-                File selectedFile = createTempFileFromUri(fileUri);
-                ApiCall(selectedFile);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
+            // Decoded straight from the content URI, without a temp copy
+            ApiCall(fileUri, null);
         }
     }
 );
-    private File createTempFileFromUri(Uri uri) throws IOException {
-        InputStream inputStream = getContentResolver().openInputStream(uri);
-        if (inputStream == null) return null;
-        // Create temp file in cache directory
-        File tempFile = File.createTempFile("upload_", ".tmp", getCacheDir());
-        FileOutputStream outputStream = new FileOutputStream(tempFile);
-        byte[] buffer = new byte[4 * 1024]; // 4KB buffer
-        int read;
-        while ((read = inputStream.read(buffer)) != -1) {
-            outputStream.write(buffer, 0, read);
-        }
-        outputStream.flush();
-        outputStream.close();
-        inputStream.close();
-        return tempFile;
+    // The board only has room for a 9x9 grid of digits 0-9; getCells() checks the values
+    private static boolean isReadable(SudokuGrid grid) {
+        if (grid == null) {
+            return false;
+        }
+        try {
+            return grid.getCells().length == 81;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Shows a freshly read puzzle; its digits become the givens for hints
+    private void showPuzzle() {
+        updateGridFromModel();
+        if (ApiResponse != null) {
+            hintEngine.load(ApiResponse.getCells());
+        }
     }
 
     private void updateGridFromModel() {
         if (ApiResponse == null){
             return;
         }
-        List<List<Integer>> gridData = ApiResponse.getGrid();
         for (int row = 0; row < 9; row++) {
             for (int col = 0; col < 9; col++) {
-                Integer value = gridData.get(row).get(col);
-                if (value != null && value != 0) {
+                int value = ApiResponse.getCell(row, col);
+                // The validator mirrors what each cell shows, so unchanged cells are left alone
+                if (validator.getValue(row * 9 + col) == value) {
+                    continue;
+                }
+                if (value != 0) {
                     sudokuCells[row][col].setText(String.valueOf(value));
                 } else {
                     sudokuCells[row][col].setText(""); // Clear empty cells
@@ -418,28 +737,4 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
-    private void updateModelFromGrid() {
-        if (ApiResponse == null) {
-            return;
-        }
-        List<List<Integer>> gridData = ApiResponse.getGrid();
-        for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                String cellText = sudokuCells[row][col].getText().toString().trim();
-                int value = 0;
-                if (!cellText.isEmpty()) {
-                    try {
-                        value = Integer.parseInt(cellText);
-                        if (value < 1 || value > 9) {
-                            value = 0; // Optional: ignore invalid numbers
-                        }
-                    } catch (NumberFormatException e) {
-                        value = 0; // Non-numeric input is treated as empty
-                    }
-                }
-                gridData.get(row).set(col, value);
-            }
-        }
-    }
-
 }
\ No newline at end of file
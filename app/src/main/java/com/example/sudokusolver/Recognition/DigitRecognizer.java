@@ -0,0 +1,168 @@
+package com.example.sudokusolver.Recognition;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import org.tensorflow.lite.Interpreter;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+// Recognizes a photographed grid on the device: GridExtractor finds and cuts the cells, and the
+// server's TFLite digit model classifies every non-blank cell in a single batched invocation.
+// Buffers and the interpreter are created once; instances must stay on one thread.
+public class DigitRecognizer implements Closeable {
+
+    private static final String TAG = "DigitRecognizer";
+    // Same file as server/flaskapi/sudoku_digit_model.tflite, packaged under app/src/main/assets
+    public static final String MODEL_ASSET = "sudoku_digit_model.tflite";
+    // Predictions below this are read as empty cells, as on the server
+    private static final float MIN_CONFIDENCE = 0.85f;
+    // Resolution photos should be decoded at for reliable cell crops
+    public static final int MIN_DECODE_SIDE = 900;
+    private static final int CELLS = GridExtractor.CELLS;
+    private static final int INPUT_LENGTH = GridExtractor.INPUT_LENGTH;
+
+    private final Interpreter interpreter;
+    // False when the model has a fixed batch of one; cells are then classified one at a time
+    private final boolean batched;
+    private final int classes;
+    private final GridExtractor extractor = new GridExtractor();
+    private final float[] inputs = new float[CELLS * INPUT_LENGTH];
+    private final int[] cellIndex = new int[CELLS];
+    private final ByteBuffer inputBuffer = ByteBuffer.allocateDirect(CELLS * INPUT_LENGTH * 4)
+            .order(ByteOrder.nativeOrder());
+    private final ByteBuffer outputBuffer;
+    private final float[] scores;
+    private int[] pixels = new int[0];
+    private int batchSize;
+
+    private DigitRecognizer(Interpreter interpreter, boolean batched) {
+        this.interpreter = interpreter;
+        this.batched = batched;
+        this.batchSize = batched ? CELLS : 1;
+        int[] outputShape = interpreter.getOutputTensor(0).shape();
+        this.classes = outputShape[outputShape.length - 1];
+        this.outputBuffer = ByteBuffer.allocateDirect(CELLS * classes * 4).order(ByteOrder.nativeOrder());
+        this.scores = new float[CELLS * classes];
+    }
+
+    // Null when the model asset is missing or cannot be loaded; callers then use the server
+    public static DigitRecognizer create(Context context) {
+        MappedByteBuffer model;
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(MODEL_ASSET);
+             FileInputStream stream = new FileInputStream(descriptor.getFileDescriptor())) {
+            model = stream.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getDeclaredLength());
+        } catch (IOException e) {
+            Log.w(TAG, "Digit model not available, recognition stays on the server", e);
+            return null;
+        }
+        Interpreter.Options options = new Interpreter.Options().setNumThreads(2);
+        try {
+            Interpreter interpreter = new Interpreter(model, options);
+            try {
+                interpreter.resizeInput(0, new int[]{CELLS, GridExtractor.INPUT_SIZE, GridExtractor.INPUT_SIZE, 1});
+                interpreter.allocateTensors();
+                return new DigitRecognizer(interpreter, true);
+            } catch (IllegalArgumentException e) {
+                // Exported with a static batch dimension
+                interpreter.close();
+                return new DigitRecognizer(new Interpreter(model, options), false);
+            }
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Digit model failed to load", e);
+            return null;
+        }
+    }
+
+    // Throws IllegalStateException when no grid outline is found in the image
+    public SudokuGrid recognize(Bitmap bitmap) {
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        if (pixels.length < width * height) {
+            pixels = new int[width * height];
+        }
+        bitmap.getPixels(pixels, 0, width, 0, 0, width, height);
+        for (int i = 0; i < width * height; i++) {
+            int argb = pixels[i];
+            // BGR2GRAY weights, as on the server
+            pixels[i] = (299 * ((argb >> 16) & 0xFF) + 587 * ((argb >> 8) & 0xFF) + 114 * (argb & 0xFF) + 500) / 1000;
+        }
+
+        int count = extractor.extract(pixels, width, height, inputs, cellIndex);
+        if (count < 0) {
+            throw new IllegalStateException("Sudoku grid not found in image.");
+        }
+
+        byte[] cells = new byte[CELLS];
+        // Class 0 is the model's "no digit"; with that layout the scores double as the
+        // per-cell distributions AmbiguityResolver works from
+        float[][] probabilities = classes == 10 ? new float[CELLS][] : null;
+        if (batched) {
+            classify(0, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                classify(i, 1);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int best = 0;
+            for (int digit = 1; digit < classes; digit++) {
+                if (scores[i * classes + digit] > scores[i * classes + best]) {
+                    best = digit;
+                }
+            }
+            if (scores[i * classes + best] > MIN_CONFIDENCE) {
+                cells[cellIndex[i]] = (byte) best;
+            }
+            if (probabilities != null) {
+                probabilities[cellIndex[i]] = Arrays.copyOfRange(scores, i * classes, (i + 1) * classes);
+            }
+        }
+        SudokuGrid grid = new SudokuGrid(9, cells);
+        grid.setProbabilities(probabilities);
+        return grid;
+    }
+
+    // Runs the model on inputs [first, first + n) and stores their scores at the same positions
+    private void classify(int first, int n) {
+        if (n == 0) {
+            return;
+        }
+        if (batched && n != batchSize) {
+            interpreter.resizeInput(0, new int[]{n, GridExtractor.INPUT_SIZE, GridExtractor.INPUT_SIZE, 1});
+            batchSize = n;
+        }
+        ByteBuffer input = slice(inputBuffer, n * INPUT_LENGTH * 4);
+        input.asFloatBuffer().put(inputs, first * INPUT_LENGTH, n * INPUT_LENGTH);
+        ByteBuffer output = slice(outputBuffer, n * classes * 4);
+        interpreter.run(input, output);
+        // The interpreter copies the scores in with put(), leaving the position at the limit
+        output.rewind();
+        output.asFloatBuffer().get(scores, first * classes, n * classes);
+    }
+
+    // View of the first 'bytes' bytes; the interpreter wants buffers of exactly the tensor size
+    private static ByteBuffer slice(ByteBuffer buffer, int bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.clear();
+        view.limit(bytes);
+        return view.slice().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void close() {
+        interpreter.close();
+    }
+}
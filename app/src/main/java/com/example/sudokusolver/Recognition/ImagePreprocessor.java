@@ -0,0 +1,134 @@
+package com.example.sudokusolver.Recognition;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.ColorMatrix;
+import android.graphics.ColorMatrixColorFilter;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.media.ExifInterface;
+import android.net.Uri;
+
+import com.example.sudokusolver.Storage.HistoryStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+// Turns a photo (camera file or gallery content URI) into what recognition needs: a bitmap
+// decoded no larger than necessary and upright, and for the server a small grayscale JPEG
+// streamed straight into the request body.
+public final class ImagePreprocessor {
+
+    // Working resolution of the /recognize endpoint, which scales every image to this first
+    public static final int SERVER_SIDE = 450;
+    private static final int JPEG_QUALITY = 90;
+    private static final MediaType JPEG = MediaType.get("image/jpeg");
+
+    private ImagePreprocessor() {
+    }
+
+    // Decodes at the largest power-of-two reduction that keeps the longest side at least
+    // 'minSide', then applies the EXIF rotation. Nothing is copied to disk.
+    public static Bitmap decode(ContentResolver resolver, Uri uri, int minSide) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = open(resolver, uri)) {
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("Not an image: " + uri);
+        }
+        int longest = Math.max(bounds.outWidth, bounds.outHeight);
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = 1;
+        while (longest / (options.inSampleSize * 2) >= minSide) {
+            options.inSampleSize *= 2;
+        }
+        Bitmap bitmap;
+        try (InputStream in = open(resolver, uri)) {
+            bitmap = BitmapFactory.decodeStream(in, null, options);
+        }
+        if (bitmap == null) {
+            throw new IOException("Could not decode " + uri);
+        }
+
+        int orientation;
+        try (InputStream in = open(resolver, uri)) {
+            orientation = new ExifInterface(in)
+                    .getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+        }
+        int degrees = orientation == ExifInterface.ORIENTATION_ROTATE_90 ? 90
+                : orientation == ExifInterface.ORIENTATION_ROTATE_180 ? 180
+                : orientation == ExifInterface.ORIENTATION_ROTATE_270 ? 270 : 0;
+        if (degrees == 0) {
+            return bitmap;
+        }
+        Matrix matrix = new Matrix();
+        matrix.postRotate(degrees);
+        Bitmap upright = Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true);
+        bitmap.recycle();
+        return upright;
+    }
+
+    // Grayscale copy with the longest side scaled to SERVER_SIDE, drawn in a single filtered pass
+    public static Bitmap prepareForUpload(Bitmap photo) {
+        float scale = Math.min(1f, (float) SERVER_SIDE / Math.max(photo.getWidth(), photo.getHeight()));
+        int width = Math.max(1, Math.round(photo.getWidth() * scale));
+        int height = Math.max(1, Math.round(photo.getHeight() * scale));
+        Bitmap gray = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        ColorMatrix desaturate = new ColorMatrix();
+        desaturate.setSaturation(0);
+        Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+        paint.setColorFilter(new ColorMatrixColorFilter(desaturate));
+        Canvas canvas = new Canvas(gray);
+        canvas.scale(scale, scale);
+        canvas.drawBitmap(photo, 0, 0, paint);
+        return gray;
+    }
+
+    // JPEG-encodes 'bitmap' directly into the outgoing request as it is written; the bitmap must
+    // stay unrecycled until the call completes, since a retry encodes it again
+    public static RequestBody jpegBody(Bitmap bitmap) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JPEG;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                if (!bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, sink.outputStream())) {
+                    throw new IOException("JPEG encoding failed");
+                }
+            }
+        };
+    }
+
+    // Fingerprint of the encoded image, so a photo that was already scanned can be looked up in
+    // the history before anything is decoded
+    public static long hash(ContentResolver resolver, Uri uri) throws IOException {
+        long hash = HistoryStore.FNV_OFFSET;
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = open(resolver, uri)) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                hash = HistoryStore.hash(hash, chunk, 0, read);
+            }
+        }
+        return hash != HistoryStore.NO_SOURCE ? hash : 1;
+    }
+
+    private static InputStream open(ContentResolver resolver, Uri uri) throws IOException {
+        InputStream in = resolver.openInputStream(uri);
+        if (in == null) {
+            throw new IOException("Cannot open " + uri);
+        }
+        return in;
+    }
+}
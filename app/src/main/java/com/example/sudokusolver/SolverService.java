@@ -0,0 +1,120 @@
+package com.example.sudokusolver;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.SolverAlgo.SearchStrategy;
+import com.example.sudokusolver.SolverAlgo.SolveControl;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Runs solves for the activity on one long-lived background thread. The solver and its search
+// buffers are created once and warmed up on a few representative puzzles at startup, so the
+// first solve the user asks for runs JIT-compiled code instead of the interpreter.
+// All methods are called from the main thread, and callbacks are delivered there too.
+public class SolverService {
+
+    public interface Callback {
+        // Only called for the latest solve that was not cancelled
+        void onResult(SolveResult result);
+    }
+
+    private static final int CELLS = 81;
+    // Solves of each warm-up puzzle; enough for ART to compile the search loop
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final String[] WARM_UP_PUZZLES = {
+            "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79",
+            "8..........36......7..9.2...5...7.......457.....1...3...1....68..85...1..9....4..",
+            "..............3.85..1.2.......5.7.....4...1...9.......5......73..2.1........4...9"
+    };
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        // Default priority: the user is usually waiting on the solve this thread runs
+        Thread thread = new Thread(runnable, "sudoku-solver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+    // Only ever used from 'executor'
+    private final SudokuSolver solver = new SudokuSolver();
+    private SolveControl pending;
+
+    public SolverService() {
+        // Scanned and typed grids are arbitrary input; restarts keep odd ones from running to the timeout
+        solver.setStrategy(SearchStrategy.ROBUST);
+    }
+
+    public void warmUp() {
+        executor.execute(() -> {
+            // Nobody is waiting on the warm-up, so it yields to the UI while it runs
+            int priority = Process.getThreadPriority(Process.myTid());
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            try {
+                byte[][] puzzles = new byte[WARM_UP_PUZZLES.length][];
+                for (int i = 0; i < puzzles.length; i++) {
+                    puzzles[i] = parse(WARM_UP_PUZZLES[i]);
+                }
+                byte[] solution = new byte[CELLS];
+                for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                    for (byte[] puzzle : puzzles) {
+                        // Same entry point as real solves, so the controlled path gets compiled too
+                        solver.solve(puzzle, solution, new SolveControl());
+                    }
+                }
+            } finally {
+                Process.setThreadPriority(priority);
+            }
+        });
+    }
+
+    // Solves a copy of 'givens' within 'timeoutMs', cancelling any solve still in flight.
+    // Returns the control of the new solve.
+    public SolveControl solve(byte[] givens, long timeoutMs, Callback callback) {
+        cancel();
+        SolveControl control = new SolveControl(timeoutMs, TimeUnit.MILLISECONDS);
+        pending = control;
+        // The snapshot doubles as the output buffer; it is handed to the callback afterwards
+        byte[] cells = givens.clone();
+        executor.execute(() -> {
+            int code = solver.solve(cells, cells, control);
+            SolveResult result = SudokuSolver.toResult(code, cells);
+            mainThreadHandler.post(() -> {
+                if (control != pending) {
+                    return; // Superseded or cancelled meanwhile
+                }
+                pending = null;
+                callback.onResult(result);
+            });
+        });
+        return control;
+    }
+
+    // Cancels the solve in flight; true if there was one
+    public boolean cancel() {
+        if (pending == null) {
+            return false;
+        }
+        pending.cancel();
+        pending = null;
+        return true;
+    }
+
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private static byte[] parse(String puzzle) {
+        byte[] cells = new byte[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            char c = puzzle.charAt(i);
+            cells[i] = (byte) (c == '.' ? 0 : c - '0');
+        }
+        return cells;
+    }
+}
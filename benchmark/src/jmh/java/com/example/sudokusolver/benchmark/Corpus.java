@@ -0,0 +1,54 @@
+package com.example.sudokusolver.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Reference puzzles in the one-line format: 81 characters, row-major, '.' or '0' for an empty cell
+public enum Corpus {
+    EASY(
+            "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79",
+            "..3.2.6..9..3.5..1..18.64....81.29..7.......8..67.82....26.95..8..2.3..9..5.1.3..",
+            "2...8.3...6..7..84.3.5..2.9...1.54.8.........4.27.6...3.1..7.4.72..4..6...4.1...3"),
+    HARD(
+            "8..........36......7..9.2...5...7.......457.....1...3...1....68..85...1..9....4..",
+            "4.....8.5.3..........7......2.....6.....8.4......1.......6.3.7.5..2.....1.4......",
+            "1.......2.9.4...5...6...7...5.9.3.......7.......85..4.7.....6...3...9.8...2.....1"),
+    SEVENTEEN_CLUE(
+            "...8.1..........435............7.8........1...2..3....6......75..34........2..6..",
+            ".......1.4.........2...........5.4.7..8...3....1.9....3..4..2...5.1........8.6...",
+            "9..8...........5............2..1...3.1.....6....4...7.7.86.........3.1..4.....2.."),
+    // Top row solution 987654321, which makes row-major 1..9 backtracking explore almost everything
+    PATHOLOGICAL(
+            "..............3.85..1.2.......5.7.....4...1...9.......5......73..2.1........4...9"),
+    INVALID(
+            "55...............................................................................",
+            "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..75",
+            "1.......................................................................1........"),
+    MULTIPLE(
+            ".................................................................................",
+            ".........6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79",
+            "8..........36......7..9.2...5...7.......457.....1...3...1....68..85......9....4..");
+
+    private final String[] lines;
+
+    Corpus(String... lines) {
+        this.lines = lines;
+    }
+
+    public List<byte[]> puzzles() {
+        List<byte[]> puzzles = new ArrayList<>(lines.length);
+        for (String line : lines) {
+            puzzles.add(parse(line));
+        }
+        return puzzles;
+    }
+
+    public static byte[] parse(String line) {
+        byte[] cells = new byte[81];
+        for (int i = 0; i < 81; i++) {
+            char c = line.charAt(i);
+            cells[i] = (byte) (c >= '1' && c <= '9' ? c - '0' : 0);
+        }
+        return cells;
+    }
+}
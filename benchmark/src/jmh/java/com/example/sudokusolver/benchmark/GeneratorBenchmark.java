@@ -0,0 +1,36 @@
+package com.example.sudokusolver.benchmark;
+
+import com.example.sudokusolver.Models.Difficulty;
+import com.example.sudokusolver.SolverAlgo.PuzzleGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Unique puzzles per second from one generator; a target grade costs a board per miss
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+
+    @Param({"NONE", "ROTATIONAL"})
+    public PuzzleGenerator.Symmetry symmetry;
+
+    // ANY for no target, otherwise a Difficulty name
+    @Param({"ANY", "EASY", "EXPERT"})
+    public String target;
+
+    private PuzzleGenerator generator;
+    private Difficulty difficulty;
+
+    @Setup
+    public void setUp() {
+        generator = new PuzzleGenerator(42);
+        difficulty = target.equals("ANY") ? null : Difficulty.valueOf(target);
+    }
+
+    @Benchmark
+    public PuzzleGenerator.Puzzle generate() {
+        return generator.generate(symmetry, difficulty);
+    }
+}
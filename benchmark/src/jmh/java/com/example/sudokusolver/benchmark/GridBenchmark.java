@@ -0,0 +1,78 @@
+package com.example.sudokusolver.benchmark;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The SudokuGrid path the app uses: nested list in, validation, solve, nested list out
+@State(Scope.Thread)
+public class GridBenchmark {
+
+    @Param({"EASY", "HARD", "INVALID"})
+    public Corpus corpus;
+
+    private final List<List<List<Integer>>> lists = new ArrayList<>();
+    private final List<byte[]> puzzles = new ArrayList<>();
+    private int next;
+
+    private final SudokuSolver solver = new SudokuSolver();
+
+    @Setup
+    public void setUp() {
+        for (byte[] puzzle : corpus.puzzles()) {
+            puzzles.add(puzzle);
+            lists.add(toList(puzzle));
+        }
+    }
+
+    private int advance() {
+        int index = next;
+        next = next + 1 == puzzles.size() ? 0 : next + 1;
+        return index;
+    }
+
+    // List -> byte[81] -> list, as done around every solveSudoku call
+    @Benchmark
+    public List<List<Integer>> conversionRoundTrip() {
+        SudokuGrid grid = new SudokuGrid(lists.get(advance()));
+        grid.getCells();
+        return grid.getGrid();
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return solver.isValidGrid(puzzles.get(advance()));
+    }
+
+    @Benchmark
+    public List<List<Integer>> solveSudoku() {
+        // getCells() copies out of the list, so the shared list itself is never modified
+        SudokuGrid grid = new SudokuGrid(lists.get(advance()));
+        try {
+            solver.solveSudoku(grid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return grid.getGrid();
+    }
+
+    private static List<List<Integer>> toList(byte[] cells) {
+        List<List<Integer>> rows = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            List<Integer> row = new ArrayList<>();
+            for (int j = 0; j < 9; j++) {
+                row.add((int) cells[i * 9 + j]);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.sudokusolver.benchmark;
+
+import com.example.sudokusolver.SolverAlgo.DancingLinksSolver;
+import com.example.sudokusolver.SolverAlgo.LogicalSolver;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+// Solve throughput of every engine on the primitive byte[] path, cycling through a corpus
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+    @Param({"EASY", "HARD", "SEVENTEEN_CLUE", "PATHOLOGICAL", "INVALID", "MULTIPLE"})
+    public Corpus corpus;
+
+    private List<byte[]> puzzles;
+    private final byte[] out = new byte[81];
+    private int next;
+
+    private final SudokuSolver backtracking = new SudokuSolver();
+    private final DancingLinksSolver dancingLinks = new DancingLinksSolver();
+    private final LogicalSolver logical = new LogicalSolver();
+
+    @Setup
+    public void setUp() {
+        puzzles = corpus.puzzles();
+    }
+
+    private byte[] nextPuzzle() {
+        byte[] puzzle = puzzles.get(next);
+        next = next + 1 == puzzles.size() ? 0 : next + 1;
+        return puzzle;
+    }
+
+    @Benchmark
+    public int backtracking() {
+        return backtracking.solve(nextPuzzle(), out);
+    }
+
+    @Benchmark
+    public int dancingLinks() {
+        return dancingLinks.solve(nextPuzzle(), out);
+    }
+
+    @Benchmark
+    public int logical() {
+        return logical.solve(nextPuzzle(), out).getResult();
+    }
+
+    @Benchmark
+    public int countToTwo() {
+        return backtracking.countSolutions(nextPuzzle(), 2);
+    }
+}
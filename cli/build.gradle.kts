@@ -0,0 +1,17 @@
+plugins {
+    application
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":core"))
+}
+
+application {
+    mainClass = "com.example.sudokusolver.Cli.SudokuCli"
+    applicationName = "sudoku-cli"
+}
@@ -0,0 +1,11 @@
+package com.example.sudokusolver.Cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Yields input lines one at a time without the line terminator
+interface LineSource extends Closeable {
+
+    // Next line, or null at end of input
+    byte[] nextLine() throws IOException;
+}
@@ -0,0 +1,72 @@
+package com.example.sudokusolver.Cli;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Line splitter over a memory-mapped file. Files of any size are mapped in windows (a single
+// mapping is limited to 2 GB); a line crossing the end of a window is re-read from the next one.
+class MappedLineSource implements LineSource {
+
+    private static final long WINDOW = 256L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    // File offset of the current window's first byte
+    private long windowStart;
+
+    MappedLineSource(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0);
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW, size - start));
+    }
+
+    @Override
+    public byte[] nextLine() throws IOException {
+        while (true) {
+            int start = window.position();
+            if (windowStart + start >= size) {
+                return null;
+            }
+            int end = start;
+            int limit = window.limit();
+            while (end < limit && window.get(end) != '\n') {
+                end++;
+            }
+            boolean lastWindow = windowStart + limit >= size;
+            if (end == limit && !lastWindow) {
+                if (start == 0) {
+                    throw new IOException("Line longer than " + WINDOW + " bytes at offset " + windowStart);
+                }
+                // The line continues past this window; remap starting at the line
+                map(windowStart + start);
+                continue;
+            }
+            byte[] line = new byte[end - start];
+            window.get(line);
+            if (end < limit) {
+                window.get();
+            }
+            return trim(line);
+        }
+    }
+
+    private static byte[] trim(byte[] line) {
+        int length = StreamLineSource.trimCarriageReturn(line, line.length);
+        return length == line.length ? line : Arrays.copyOf(line, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.sudokusolver.Cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// Line splitter over a plain stream, used for stdin
+class StreamLineSource implements LineSource {
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[1 << 16];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[128];
+
+    StreamLineSource(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public byte[] nextLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return length > 0 ? Arrays.copyOf(line, length) : null;
+                }
+            }
+            byte b = buffer[position++];
+            if (b == '\n') {
+                return Arrays.copyOf(line, trimCarriageReturn(line, length));
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+    }
+
+    static int trimCarriageReturn(byte[] line, int length) {
+        return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.sudokusolver.Cli;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.SolverAlgo.SearchStrategy;
+import com.example.sudokusolver.SolverAlgo.SolverMetrics;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Bulk solver over the one-puzzle-per-line format: 81 characters, '1'-'9' for clues and '.' or
+// '0' for empty cells, optionally followed by a separator and other columns. Every input line
+// produces one output line, in input order:
+//
+//     <81-char solution, or the input if unsolved> <UNIQUE|MULTIPLE|INVALID|UNSOLVABLE>
+//
+// Lines are read in batches and solved on a fixed pool. At most a bounded number of batches are
+// in flight, so reading blocks when the writer falls behind and memory stays flat for any input
+// size. If writing fails (say a closed pipe), reading stops, queued batches are cancelled and
+// the write error is thrown. Files are memory-mapped; with no file arguments (or "-") stdin is
+// read. --metrics prints search statistics and latency percentiles to stderr at the end.
+// --robust switches the search to SearchStrategy.ROBUST for files that may contain adversarial
+// grids.
+public final class SudokuCli {
+
+    private static final int CELLS = 81;
+    private static final String USAGE =
+            "Usage: sudoku-cli [--threads N] [--batch N] [--engine backtracking|dlx] [--robust] [--metrics] [FILE...]";
+
+    private SudokuCli() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = 1024;
+        SudokuSolver.Engine engine = SudokuSolver.Engine.BACKTRACKING;
+        SearchStrategy strategy = SearchStrategy.PLAIN;
+        SolverMetrics metrics = null;
+        List<String> files = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--batch":
+                        batchSize = Integer.parseInt(args[++i]);
+                        break;
+                    case "--engine":
+                        engine = "dlx".equals(args[++i])
+                                ? SudokuSolver.Engine.DANCING_LINKS : SudokuSolver.Engine.BACKTRACKING;
+                        break;
+                    case "--robust":
+                        strategy = SearchStrategy.ROBUST;
+                        break;
+                    case "--metrics":
+                        metrics = new SolverMetrics();
+                        break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        files.add(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        if (threads < 1 || batchSize < 1) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        if (files.isEmpty()) {
+            files.add("-");
+        }
+
+        // Not System.out: a PrintStream swallows write errors, so a closed pipe would go unnoticed
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16);
+        Pipeline pipeline = new Pipeline(threads, batchSize, engine, strategy, metrics, out);
+        try {
+            for (String file : files) {
+                try (LineSource source = open(file)) {
+                    pipeline.feed(source);
+                }
+            }
+        } finally {
+            pipeline.finish();
+            out.flush();
+        }
+        if (metrics != null) {
+            System.err.print(metrics.dump());
+        }
+    }
+
+    private static LineSource open(String file) throws IOException {
+        if ("-".equals(file)) {
+            return new StreamLineSource(System.in);
+        }
+        Path path = Paths.get(file);
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("Not a file: " + file);
+        }
+        return new MappedLineSource(path);
+    }
+
+    private static final class Pipeline {
+        private final int batchSize;
+        private final SudokuSolver.Engine engine;
+        private final ExecutorService workers;
+        private final ThreadLocal<SudokuSolver> solvers;
+        // Pending batches in input order; its capacity is what bounds the work in flight
+        private final BlockingQueue<Future<byte[]>> pending;
+        private final CompletableFuture<Void> writer;
+        private List<byte[]> batch = new ArrayList<>();
+
+        Pipeline(int threads, int batchSize, SudokuSolver.Engine engine, SearchStrategy strategy,
+                 SolverMetrics metrics, OutputStream out) {
+            this.batchSize = batchSize;
+            this.engine = engine;
+            this.solvers = ThreadLocal.withInitial(() -> {
+                SudokuSolver solver = new SudokuSolver();
+                solver.setStrategy(strategy);
+                solver.setMetrics(metrics);
+                return solver;
+            });
+            this.workers = Executors.newFixedThreadPool(threads);
+            this.pending = new ArrayBlockingQueue<>(threads * 4);
+            this.writer = CompletableFuture.runAsync(() -> drain(out), Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sudoku-cli-writer");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+
+        void feed(LineSource source) throws IOException, InterruptedException {
+            byte[] line;
+            while ((line = source.nextLine()) != null) {
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    submit();
+                }
+            }
+        }
+
+        void finish() throws InterruptedException, IOException {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            // An empty result marks the end of input for the writer
+            enqueue(CompletableFuture.completedFuture(null));
+            try {
+                writer.get();
+            } catch (ExecutionException e) {
+                throw writeFailure(e);
+            } finally {
+                workers.shutdown();
+            }
+        }
+
+        private void submit() throws InterruptedException, IOException {
+            List<byte[]> lines = batch;
+            batch = new ArrayList<>(batchSize);
+            enqueue(workers.submit(() -> solveBatch(lines)));
+        }
+
+        // Blocks while the queue is full, but gives up as soon as the writer has stopped: nothing
+        // would ever take from the queue again
+        private void enqueue(Future<byte[]> result) throws InterruptedException, IOException {
+            while (!writer.isDone()) {
+                if (pending.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+            result.cancel(true);
+            throw abort();
+        }
+
+        // Cancels everything still queued; returns the writer's error
+        private IOException abort() throws InterruptedException {
+            List<Future<byte[]>> queued = new ArrayList<>();
+            pending.drainTo(queued);
+            for (Future<byte[]> result : queued) {
+                result.cancel(true);
+            }
+            workers.shutdownNow();
+            try {
+                writer.get();
+                return new IOException("Writer stopped before the end of input");
+            } catch (ExecutionException e) {
+                return writeFailure(e);
+            }
+        }
+
+        private static IOException writeFailure(ExecutionException e) {
+            Throwable cause = e.getCause();
+            return cause instanceof UncheckedIOException
+                    ? ((UncheckedIOException) cause).getCause() : new IOException(cause);
+        }
+
+        private void drain(OutputStream out) {
+            try {
+                while (true) {
+                    byte[] chunk = pending.take().get();
+                    if (chunk == null) {
+                        return;
+                    }
+                    out.write(chunk);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("Writing results failed", e);
+            }
+        }
+
+        private byte[] solveBatch(List<byte[]> lines) {
+            SudokuSolver solver = solvers.get();
+            byte[] puzzle = new byte[CELLS];
+            byte[] solution = new byte[CELLS];
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream(lines.size() * (CELLS + 12));
+            for (byte[] line : lines) {
+                SolveResult.Status status = SolveResult.Status.INVALID;
+                if (parse(line, puzzle)) {
+                    status = SudokuSolver.toResult(solver.solve(puzzle, solution, engine), solution).getStatus();
+                }
+                if (status.isSolved()) {
+                    for (int i = 0; i < CELLS; i++) {
+                        chunk.write('0' + solution[i]);
+                    }
+                } else {
+                    chunk.write(line, 0, Math.min(line.length, CELLS));
+                }
+                chunk.write(' ');
+                byte[] name = status.name().getBytes(StandardCharsets.US_ASCII);
+                chunk.write(name, 0, name.length);
+                chunk.write('\n');
+            }
+            return chunk.toByteArray();
+        }
+
+        // Anything after the 81 cells (e.g. ",solution" columns) is ignored if separated from them
+        private static boolean parse(byte[] line, byte[] puzzle) {
+            if (line.length < CELLS || line.length > CELLS && isCell(line[CELLS])) {
+                return false;
+            }
+            for (int i = 0; i < CELLS; i++) {
+                byte c = line[i];
+                if (c >= '1' && c <= '9') {
+                    puzzle[i] = (byte) (c - '0');
+                } else if (c == '.' || c == '0') {
+                    puzzle[i] = 0;
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isCell(byte c) {
+            return c >= '0' && c <= '9' || c == '.';
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.sudokusolver.Models;
+
+// Grade of a puzzle by the hardest step needed to solve it, easiest first
+public enum Difficulty {
+    // Naked and hidden singles only
+    EASY,
+    // Locked candidates and pairs
+    MEDIUM,
+    // Triples and fish
+    HARD,
+    // Logic stalls and the solver has to guess
+    EXPERT
+}
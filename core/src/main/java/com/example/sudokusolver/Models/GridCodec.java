@@ -0,0 +1,205 @@
+package com.example.sudokusolver.Models;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// Compact binary encoding of a 9x9 grid for the wire and for archives. An encoded grid is one
+// format byte followed by the body:
+//
+//   0 (dense)  - 41 bytes: the 81 cells packed two per byte, see PackedGrid
+//   1 (sparse) - an 11-byte presence bitmap (bit 7 - i % 8 of byte i / 8 set for each filled
+//                cell i), then the digits of the filled cells in cell order, two per byte, high
+//                nibble first
+//
+// encode() picks whichever is shorter: a 17-clue puzzle takes 21 bytes, a full grid 42. Streams
+// of grids are framed with a varint length prefix (writeDelimited/readDelimited).
+public final class GridCodec {
+
+    public static final String MEDIA_TYPE = "application/x-sudoku-grid";
+
+    private static final int CELLS = PackedGrid.CELLS;
+    private static final int DENSE = 0;
+    private static final int SPARSE = 1;
+    private static final int BITMAP_SIZE = (CELLS + 7) / 8;
+    // Largest encoding: format byte plus the dense body
+    public static final int MAX_ENCODED_SIZE = 1 + PackedGrid.PACKED_SIZE;
+
+    private GridCodec() {
+    }
+
+    public static byte[] encode(byte[] cells) {
+        byte[] out = new byte[MAX_ENCODED_SIZE];
+        int length = encode(cells, out, 0);
+        return length == out.length ? out : Arrays.copyOf(out, length);
+    }
+
+    public static byte[] encode(SudokuGrid grid) {
+        if (grid.getSize() != 9) {
+            throw new IllegalArgumentException("Only 9x9 grids have a binary encoding.");
+        }
+        return encode(grid.getCells());
+    }
+
+    // Writes the encoding at 'offset' and returns its length; 'out' needs MAX_ENCODED_SIZE bytes free
+    public static int encode(byte[] cells, byte[] out, int offset) {
+        if (cells.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        int filled = 0;
+        for (byte cell : cells) {
+            if (cell < 0 || cell > 9) {
+                throw new IllegalArgumentException("Cell values must be between 0 and 9.");
+            }
+            if (cell != 0) {
+                filled++;
+            }
+        }
+
+        if (BITMAP_SIZE + (filled + 1) / 2 >= PackedGrid.PACKED_SIZE) {
+            out[offset] = DENSE;
+            PackedGrid.pack(cells, out, offset + 1);
+            return MAX_ENCODED_SIZE;
+        }
+
+        out[offset] = SPARSE;
+        int bitmap = offset + 1;
+        int digits = bitmap + BITMAP_SIZE;
+        for (int i = 0; i < BITMAP_SIZE + (filled + 1) / 2; i++) {
+            out[bitmap + i] = 0;
+        }
+        int written = 0;
+        for (int i = 0; i < CELLS; i++) {
+            if (cells[i] == 0) {
+                continue;
+            }
+            out[bitmap + i / 8] |= (byte) (0x80 >>> (i % 8));
+            int shift = written % 2 == 0 ? 4 : 0;
+            out[digits + written / 2] |= (byte) (cells[i] << shift);
+            written++;
+        }
+        return 1 + BITMAP_SIZE + (filled + 1) / 2;
+    }
+
+    public static byte[] decode(byte[] data) throws IOException {
+        byte[] cells = new byte[CELLS];
+        decode(data, 0, data.length, cells);
+        return cells;
+    }
+
+    public static SudokuGrid decodeGrid(byte[] data) throws IOException {
+        return new SudokuGrid(9, decode(data));
+    }
+
+    // Decodes one grid from data[offset, offset + length) into 'cells'; returns the bytes consumed
+    public static int decode(byte[] data, int offset, int length, byte[] cells) throws IOException {
+        if (length < 1) {
+            throw new IOException("Empty grid encoding");
+        }
+        int format = data[offset];
+        if (format == DENSE) {
+            require(length, MAX_ENCODED_SIZE);
+            PackedGrid.unpack(data, offset + 1, cells);
+            for (int i = 0; i < CELLS; i++) {
+                checkDigit(cells[i], i);
+            }
+            return MAX_ENCODED_SIZE;
+        }
+        if (format != SPARSE) {
+            throw new IOException("Unknown grid format " + format);
+        }
+
+        require(length, 1 + BITMAP_SIZE);
+        int bitmap = offset + 1;
+        int digits = bitmap + BITMAP_SIZE;
+        int read = 0;
+        for (int i = 0; i < CELLS; i++) {
+            if ((data[bitmap + i / 8] & (0x80 >>> (i % 8))) == 0) {
+                cells[i] = 0;
+                continue;
+            }
+            require(length, 1 + BITMAP_SIZE + read / 2 + 1);
+            int shift = read % 2 == 0 ? 4 : 0;
+            cells[i] = (byte) ((data[digits + read / 2] >> shift) & 0x0F);
+            if (cells[i] == 0) {
+                throw new IOException("Empty cell " + i + " marked as filled");
+            }
+            checkDigit(cells[i], i);
+            read++;
+        }
+        return 1 + BITMAP_SIZE + (read + 1) / 2;
+    }
+
+    // A nibble holds 0-15; anything past 9 is corrupt rather than a digit
+    private static void checkDigit(int value, int cell) throws IOException {
+        if (value > 9) {
+            throw new IOException("Bad digit " + value + " in cell " + cell);
+        }
+    }
+
+    private static void require(int length, int needed) throws IOException {
+        if (length < needed) {
+            throw new EOFException("Truncated grid encoding");
+        }
+    }
+
+    public static void writeDelimited(OutputStream out, byte[] cells) throws IOException {
+        byte[] encoded = new byte[MAX_ENCODED_SIZE];
+        int length = encode(cells, encoded, 0);
+        writeVarint(out, length);
+        out.write(encoded, 0, length);
+    }
+
+    // Next grid of a delimited stream, or null at a clean end of stream
+    public static byte[] readDelimited(InputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        int length = readVarint(in, first);
+        if (length < 1 || length > MAX_ENCODED_SIZE) {
+            throw new IOException("Bad grid length " + length);
+        }
+        byte[] encoded = new byte[length];
+        int read = 0;
+        while (read < length) {
+            int n = in.read(encoded, read, length - read);
+            if (n < 0) {
+                throw new EOFException("Truncated grid encoding");
+            }
+            read += n;
+        }
+        byte[] cells = new byte[CELLS];
+        decode(encoded, 0, length, cells);
+        return cells;
+    }
+
+    // Unsigned LEB128: 7 bits per byte, low bits first, high bit set on all but the last byte
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(InputStream in, int first) throws IOException {
+        int value = first & 0x7F;
+        int shift = 7;
+        int b = first;
+        while ((b & 0x80) != 0) {
+            if (shift > 28) {
+                throw new IOException("Varint too long");
+            }
+            b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated varint");
+            }
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+}
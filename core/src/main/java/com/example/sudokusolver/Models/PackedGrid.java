@@ -0,0 +1,35 @@
+package com.example.sudokusolver.Models;
+
+// Two cells per byte, 4 bits each (high nibble first): 81 cells fit in 41 bytes
+public final class PackedGrid {
+
+    public static final int CELLS = 81;
+    public static final int PACKED_SIZE = (CELLS + 1) / 2;
+
+    private PackedGrid() {
+    }
+
+    public static byte[] pack(byte[] cells) {
+        byte[] packed = new byte[PACKED_SIZE];
+        pack(cells, packed, 0);
+        return packed;
+    }
+
+    public static void pack(byte[] cells, byte[] out, int offset) {
+        for (int i = 0; i < PACKED_SIZE; i++) {
+            int high = cells[2 * i] & 0x0F;
+            int low = 2 * i + 1 < CELLS ? cells[2 * i + 1] & 0x0F : 0;
+            out[offset + i] = (byte) (high << 4 | low);
+        }
+    }
+
+    public static void unpack(byte[] packed, int offset, byte[] cells) {
+        for (int i = 0; i < PACKED_SIZE; i++) {
+            int b = packed[offset + i];
+            cells[2 * i] = (byte) ((b >> 4) & 0x0F);
+            if (2 * i + 1 < CELLS) {
+                cells[2 * i + 1] = (byte) (b & 0x0F);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.sudokusolver.Models;
+
+public class SolveResult {
+
+    public enum Status {
+        UNIQUE,
+        MULTIPLE,
+        INVALID,
+        UNSOLVABLE,
+        // Stopped by a SolveControl before the answer was known
+        CANCELLED;
+
+        public boolean isSolved() {
+            return this == UNIQUE || this == MULTIPLE;
+        }
+    }
+
+    private final Status status;
+    // Row-major solved cells; null unless the status is solved
+    private final byte[] solution;
+
+    public SolveResult(Status status, byte[] solution) {
+        this.status = status;
+        this.solution = solution;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSolved() {
+        return status.isSolved();
+    }
+
+    public byte[] getSolution() {
+        return solution;
+    }
+}
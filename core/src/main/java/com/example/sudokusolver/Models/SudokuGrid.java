@@ -0,0 +1,149 @@
+package com.example.sudokusolver.Models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SudokuGrid {
+    private static final int DEFAULT_SIZE = 9;
+    // Box sizes 2..6, i.e. 4x4 up to 36x36 grids
+    private static final int MAX_SIZE = 36;
+
+    // Nested list form, as sent by the /recognize endpoint; built lazily from 'cells' on request
+    private List<List<Integer>> grid;
+    // Flat row-major cells (0 = empty). When 'grid' is non-null it holds the current values instead.
+    private transient byte[] cells;
+    // Side length; the list form carries its own
+    private transient int size;
+    // Optional recognizer output: per row-major cell, the probability of blank (index 0) and of
+    // each digit 1-9. A null row, or no array at all, means the cell is certain.
+    private float[][] probabilities;
+
+    public SudokuGrid() {
+        this(DEFAULT_SIZE);
+    }
+
+    // Empty size x size grid; size must be a perfect square between 4 and 36
+    public SudokuGrid(int size) {
+        this(size, new byte[checkSize(size) * size]);
+    }
+
+    public SudokuGrid(int size, byte[] cells) {
+        if (cells.length != checkSize(size) * size) {
+            throw new IllegalArgumentException("Expected " + size * size + " cells.");
+        }
+        this.size = size;
+        this.cells = cells;
+    }
+
+    // The rows are checked for shape here; their values only when converted by getCells()
+    public SudokuGrid(List<List<Integer>> grid) {
+        this.size = checkRows(grid);
+        this.grid = grid;
+    }
+
+    public SudokuGrid(byte[] cells) {
+        this((int) Math.round(Math.sqrt(cells.length)), cells);
+    }
+
+    private static int checkSize(int size) {
+        int box = (int) Math.round(Math.sqrt(size));
+        if (box * box != size || box < 2 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported grid size: " + size);
+        }
+        return size;
+    }
+
+    // A grid arriving as JSON can have any shape; returns the side length
+    private static int checkRows(List<List<Integer>> grid) {
+        int size = checkSize(grid.size());
+        for (List<Integer> row : grid) {
+            if (row == null || row.size() != size) {
+                throw new IllegalArgumentException("Expected " + size + " cells in every row.");
+            }
+        }
+        return size;
+    }
+
+    public int getSize() {
+        return grid != null ? grid.size() : size;
+    }
+
+    public int getBoxSize() {
+        return (int) Math.round(Math.sqrt(getSize()));
+    }
+
+    public List<List<Integer>> getGrid() {
+        if (grid == null) {
+            grid = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                List<Integer> row = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    row.add((int) cells[i * size + j]);
+                }
+                grid.add(row);
+            }
+        }
+        return grid;
+    }
+
+    public void setGrid(List<List<Integer>> grid) {
+        checkRows(grid);
+        this.grid = grid;
+    }
+
+    // Flat view used by the solver; the returned array is live and may be written to. The list form
+    // is checked as it is converted, since Gson sets 'grid' directly rather than through setGrid().
+    public byte[] getCells() {
+        if (grid != null) {
+            int side = checkRows(grid);
+            byte[] converted = cells != null && cells.length == side * side ? cells : new byte[side * side];
+            for (int i = 0; i < side; i++) {
+                List<Integer> row = grid.get(i);
+                for (int j = 0; j < side; j++) {
+                    Integer value = row.get(j);
+                    int digit = value != null ? value : 0;
+                    if (digit < 0 || digit > side) {
+                        throw new IllegalArgumentException("Cell values must be between 0 and " + side + ".");
+                    }
+                    converted[i * side + j] = (byte) digit;
+                }
+            }
+            size = side;
+            cells = converted;
+            grid = null;
+        }
+        return cells;
+    }
+
+    public void setCells(byte[] cells) {
+        if (cells.length != getSize() * getSize()) {
+            throw new IllegalArgumentException("Expected " + getSize() * getSize() + " cells.");
+        }
+        this.cells = cells;
+        this.grid = null;
+    }
+
+    public float[][] getProbabilities() {
+        return probabilities;
+    }
+
+    public void setProbabilities(float[][] probabilities) {
+        if (probabilities != null && probabilities.length != getSize() * getSize()) {
+            throw new IllegalArgumentException("Expected " + getSize() * getSize() + " probability rows.");
+        }
+        this.probabilities = probabilities;
+    }
+
+    public int getCell(int row, int col) {
+        return getCells()[row * size + col];
+    }
+
+    public void setCell(int row, int col, int value) {
+        getCells()[row * size + col] = (byte) value;
+    }
+
+    public  void resetGrid(){
+        Arrays.fill(getCells(), (byte) 0);
+    }
+}
@@ -0,0 +1,433 @@
+package com.example.sudokusolver.Recognition;
+
+import java.util.Arrays;
+
+// Pure-Java port of the /recognize image pipeline in server/flaskapi/sudoku_recognizer.py, up to
+// the digit classifier: fit the photo into 450x450, adaptive threshold, locate the grid outline,
+// warp it square, cut 81 cells, drop the blank ones and turn the rest into 32x32 model inputs.
+// The steps follow the OpenCV calls of the server one by one (same kernels, thresholds and
+// crops) so the same model sees the same inputs. Buffers are allocated once per instance, which
+// is not thread-safe.
+public class GridExtractor {
+
+    public static final int CELLS = 81;
+    public static final int INPUT_SIZE = 32;
+    public static final int INPUT_LENGTH = INPUT_SIZE * INPUT_SIZE;
+
+    private static final int SIDE = 450;
+    private static final int PIXELS = SIDE * SIDE;
+    private static final int CELL_SIDE = SIDE / 9;
+    // Grid lines trimmed from every side of a cell
+    private static final int CELL_MARGIN = 4;
+    private static final int CROP_SIDE = CELL_SIDE - 2 * CELL_MARGIN;
+    // Cells with less foreground than this share are blank
+    private static final double BLANK_RATIO = 0.02;
+    private static final double MIN_GRID_AREA = 500;
+
+    private final int[] fitted = new int[PIXELS];
+    private final int[] blurred = new int[PIXELS];
+    private final int[] mean = new int[PIXELS];
+    private final float[] rowPass = new float[PIXELS];
+    // Foreground mask after thresholding; reused as the visited mask while tracing components
+    private final byte[] binary = new byte[PIXELS];
+    private final int[] queue = new int[PIXELS];
+    private final int[] warped = new int[PIXELS];
+    private final int[] cell = new int[CROP_SIDE * CROP_SIDE];
+    private final int[] square = new int[CROP_SIDE * CROP_SIDE];
+    private final int[] histogram = new int[256];
+    private final double[] corners = new double[8];
+
+    // Cuts the grid out of a grayscale image (one 0-255 value per pixel, row-major) and writes the
+    // model input of each non-blank cell into 'inputs' (CELLS * INPUT_LENGTH floats), with its
+    // row-major cell index in 'cellIndex'. Returns the number of cells written, or -1 when no grid
+    // outline was found.
+    public int extract(int[] gray, int width, int height, float[] inputs, int[] cellIndex) {
+        if (gray.length < width * height || inputs.length < CELLS * INPUT_LENGTH || cellIndex.length < CELLS) {
+            throw new IllegalArgumentException("Buffers too small for the image or the 81 cells.");
+        }
+        fit(gray, width, height);
+        gaussianBlur(fitted, blurred, gaussianKernel(3, 3), false);
+        gaussianBlur(blurred, mean, gaussianKernel(11, 0), true);
+        for (int i = 0; i < PIXELS; i++) {
+            // THRESH_BINARY_INV with C = 2: dark ink on a lighter neighbourhood becomes foreground
+            binary[i] = (byte) (blurred[i] - mean[i] <= -2 ? 1 : 0);
+        }
+        if (!findGrid()) {
+            return -1;
+        }
+        warp();
+
+        int count = 0;
+        for (int index = 0; index < CELLS; index++) {
+            int top = (index / 9) * CELL_SIDE + CELL_MARGIN;
+            int left = (index % 9) * CELL_SIDE + CELL_MARGIN;
+            for (int y = 0; y < CROP_SIDE; y++) {
+                System.arraycopy(warped, (top + y) * SIDE + left, cell, y * CROP_SIDE, CROP_SIDE);
+            }
+            int foreground = thresholdInverse(cell);
+            if (foreground < BLANK_RATIO * cell.length) {
+                continue;
+            }
+            // The server thresholds the already binary cell once more, which inverts it: the model
+            // was trained on dark digits on white, so that step is kept as is
+            thresholdInverse(cell);
+            centerAndResize(cell, inputs, count * INPUT_LENGTH);
+            cellIndex[count++] = index;
+        }
+        return count;
+    }
+
+    // Scales the longest side to 450 (bilinear, like cv2.resize) and pads right/bottom with black
+    private void fit(int[] gray, int width, int height) {
+        double scale = (double) SIDE / Math.max(width, height);
+        int scaledWidth = (int) (width * scale);
+        int scaledHeight = (int) (height * scale);
+        Arrays.fill(fitted, 0);
+        for (int y = 0; y < scaledHeight; y++) {
+            double sy = Math.max(0, (y + 0.5) / scale - 0.5);
+            int y0 = Math.min((int) sy, height - 1);
+            int y1 = Math.min(y0 + 1, height - 1);
+            double fy = sy - y0;
+            for (int x = 0; x < scaledWidth; x++) {
+                double sx = Math.max(0, (x + 0.5) / scale - 0.5);
+                int x0 = Math.min((int) sx, width - 1);
+                int x1 = Math.min(x0 + 1, width - 1);
+                double fx = sx - x0;
+                double top = gray[y0 * width + x0] * (1 - fx) + gray[y0 * width + x1] * fx;
+                double bottom = gray[y1 * width + x0] * (1 - fx) + gray[y1 * width + x1] * fx;
+                fitted[y * SIDE + x] = (int) Math.round(top * (1 - fy) + bottom * fy);
+            }
+        }
+    }
+
+    // Normalised 1-D Gaussian; sigma 0 derives it from the size as OpenCV does
+    private static float[] gaussianKernel(int size, double sigma) {
+        if (sigma <= 0) {
+            sigma = 0.3 * ((size - 1) * 0.5 - 1) + 0.8;
+        }
+        float[] kernel = new float[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            double x = i - (size - 1) / 2.0;
+            kernel[i] = (float) Math.exp(-x * x / (2 * sigma * sigma));
+            sum += kernel[i];
+        }
+        for (int i = 0; i < size; i++) {
+            kernel[i] /= (float) sum;
+        }
+        return kernel;
+    }
+
+    // Separable blur; borders are reflected (GaussianBlur) or replicated (adaptiveThreshold)
+    private void gaussianBlur(int[] src, int[] dst, float[] kernel, boolean replicate) {
+        int radius = kernel.length / 2;
+        for (int y = 0; y < SIDE; y++) {
+            for (int x = 0; x < SIDE; x++) {
+                float sum = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    sum += kernel[k + radius] * src[y * SIDE + border(x + k, replicate)];
+                }
+                rowPass[y * SIDE + x] = sum;
+            }
+        }
+        for (int y = 0; y < SIDE; y++) {
+            for (int x = 0; x < SIDE; x++) {
+                float sum = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    sum += kernel[k + radius] * rowPass[border(y + k, replicate) * SIDE + x];
+                }
+                dst[y * SIDE + x] = Math.round(sum);
+            }
+        }
+    }
+
+    private static int border(int i, boolean replicate) {
+        if (i >= 0 && i < SIDE) {
+            return i;
+        }
+        if (replicate) {
+            return i < 0 ? 0 : SIDE - 1;
+        }
+        return i < 0 ? -i : 2 * SIDE - 2 - i;
+    }
+
+    // Stands in for the largest 4-point contour: traces every 8-connected foreground component,
+    // takes its extreme points along both diagonals as corners, and keeps the component whose
+    // corner quadrilateral is largest. Corners go to 'corners' as TL, TR, BL, BR (x, y) pairs.
+    private boolean findGrid() {
+        double bestArea = MIN_GRID_AREA;
+        boolean found = false;
+        for (int start = 0; start < PIXELS; start++) {
+            if (binary[start] != 1) {
+                continue;
+            }
+            // Extreme pixels along x + y and y - x
+            int minSum = start;
+            int maxSum = start;
+            int minDiff = start;
+            int maxDiff = start;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            binary[start] = 2;
+            while (head < tail) {
+                int p = queue[head++];
+                int x = p % SIDE;
+                int y = p / SIDE;
+                if (x + y < sumOf(minSum)) {
+                    minSum = p;
+                } else if (x + y > sumOf(maxSum)) {
+                    maxSum = p;
+                }
+                if (y - x < diffOf(minDiff)) {
+                    minDiff = p;
+                } else if (y - x > diffOf(maxDiff)) {
+                    maxDiff = p;
+                }
+                for (int dy = -1; dy <= 1; dy++) {
+                    int ny = y + dy;
+                    if (ny < 0 || ny >= SIDE) {
+                        continue;
+                    }
+                    for (int dx = -1; dx <= 1; dx++) {
+                        int nx = x + dx;
+                        if (nx < 0 || nx >= SIDE) {
+                            continue;
+                        }
+                        int q = ny * SIDE + nx;
+                        if (binary[q] == 1) {
+                            binary[q] = 2;
+                            queue[tail++] = q;
+                        }
+                    }
+                }
+            }
+            double area = quadArea(minSum, minDiff, maxSum, maxDiff);
+            if (area > bestArea) {
+                bestArea = area;
+                found = true;
+                setCorner(0, minSum);
+                setCorner(1, minDiff);
+                setCorner(2, maxDiff);
+                setCorner(3, maxSum);
+            }
+        }
+        return found;
+    }
+
+    private static int sumOf(int p) {
+        return p % SIDE + p / SIDE;
+    }
+
+    private static int diffOf(int p) {
+        return p / SIDE - p % SIDE;
+    }
+
+    // Shoelace area of the polygon a-b-c-d
+    private static double quadArea(int a, int b, int c, int d) {
+        int[] points = {a, b, c, d};
+        double twice = 0;
+        for (int i = 0; i < 4; i++) {
+            int p = points[i];
+            int q = points[(i + 1) % 4];
+            twice += (double) (p % SIDE) * (q / SIDE) - (double) (q % SIDE) * (p / SIDE);
+        }
+        return Math.abs(twice) / 2;
+    }
+
+    private void setCorner(int i, int p) {
+        corners[2 * i] = p % SIDE;
+        corners[2 * i + 1] = p / SIDE;
+    }
+
+    // Perspective warp of the grid onto the full 450x450 square, bilinear, black outside the image
+    private void warp() {
+        double[] h = homography(corners);
+        for (int v = 0; v < SIDE; v++) {
+            for (int u = 0; u < SIDE; u++) {
+                double w = h[6] * u + h[7] * v + 1;
+                double sx = (h[0] * u + h[1] * v + h[2]) / w;
+                double sy = (h[3] * u + h[4] * v + h[5]) / w;
+                warped[v * SIDE + u] = sample(sx, sy);
+            }
+        }
+    }
+
+    private int sample(double x, double y) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double fx = x - x0;
+        double fy = y - y0;
+        double top = pixel(x0, y0) * (1 - fx) + pixel(x0 + 1, y0) * fx;
+        double bottom = pixel(x0, y0 + 1) * (1 - fx) + pixel(x0 + 1, y0 + 1) * fx;
+        return (int) Math.round(top * (1 - fy) + bottom * fy);
+    }
+
+    private int pixel(int x, int y) {
+        return x < 0 || y < 0 || x >= SIDE || y >= SIDE ? 0 : fitted[y * SIDE + x];
+    }
+
+    // Coefficients h0..h7 of the map from the output square to the source corners (h8 = 1),
+    // solved from the four correspondences by Gaussian elimination
+    private static double[] homography(double[] src) {
+        double[] dst = {0, 0, SIDE, 0, 0, SIDE, SIDE, SIDE};
+        double[][] a = new double[8][9];
+        for (int i = 0; i < 4; i++) {
+            double u = dst[2 * i];
+            double v = dst[2 * i + 1];
+            double x = src[2 * i];
+            double y = src[2 * i + 1];
+            a[2 * i] = new double[]{u, v, 1, 0, 0, 0, -u * x, -v * x, x};
+            a[2 * i + 1] = new double[]{0, 0, 0, u, v, 1, -u * y, -v * y, y};
+        }
+        for (int col = 0; col < 8; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < 8; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            double[] swap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = swap;
+            for (int row = 0; row < 8; row++) {
+                if (row == col || a[col][col] == 0) {
+                    continue;
+                }
+                double factor = a[row][col] / a[col][col];
+                for (int k = col; k < 9; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+            }
+        }
+        double[] h = new double[8];
+        for (int i = 0; i < 8; i++) {
+            h[i] = a[i][i] == 0 ? 0 : a[i][8] / a[i][i];
+        }
+        return h;
+    }
+
+    // Otsu threshold with THRESH_BINARY_INV, in place; returns the number of 255 pixels
+    private int thresholdInverse(int[] pixels) {
+        Arrays.fill(histogram, 0);
+        for (int value : pixels) {
+            histogram[value]++;
+        }
+        int threshold = otsu(pixels.length);
+        int foreground = 0;
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = pixels[i] > threshold ? 0 : 255;
+            if (pixels[i] != 0) {
+                foreground++;
+            }
+        }
+        return foreground;
+    }
+
+    private int otsu(int total) {
+        double sum = 0;
+        for (int i = 0; i < 256; i++) {
+            sum += (double) i * histogram[i];
+        }
+        double sumBelow = 0;
+        int below = 0;
+        double bestVariance = 0;
+        int best = 0;
+        for (int t = 0; t < 256; t++) {
+            below += histogram[t];
+            if (below == 0) {
+                continue;
+            }
+            int above = total - below;
+            if (above == 0) {
+                break;
+            }
+            sumBelow += (double) t * histogram[t];
+            double meanBelow = sumBelow / below;
+            double meanAbove = (sum - sumBelow) / above;
+            double variance = (double) below * above * (meanBelow - meanAbove) * (meanBelow - meanAbove);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    // Crops to the bounding box of the non-zero pixels, pads it towards a square and area-resizes
+    // to 32x32, scaled to 0..1 (center_and_resize in the server)
+    private void centerAndResize(int[] pixels, float[] out, int offset) {
+        int minX = CROP_SIDE;
+        int minY = CROP_SIDE;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < CROP_SIDE; y++) {
+            for (int x = 0; x < CROP_SIDE; x++) {
+                if (pixels[y * CROP_SIDE + x] != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            minX = 0;
+            minY = 0;
+            maxX = CROP_SIDE - 1;
+            maxY = CROP_SIDE - 1;
+        }
+        int w = maxX - minX + 1;
+        int h = maxY - minY + 1;
+        // Like copyMakeBorder with (max - side) // 2 on both sides: odd differences stay non-square
+        int padX = (Math.max(w, h) - w) / 2;
+        int padY = (Math.max(w, h) - h) / 2;
+        int width = w + 2 * padX;
+        int height = h + 2 * padY;
+        Arrays.fill(square, 0, width * height, 0);
+        for (int y = 0; y < h; y++) {
+            System.arraycopy(pixels, (minY + y) * CROP_SIDE + minX, square, (padY + y) * width + padX, w);
+        }
+
+        double scaleX = (double) width / INPUT_SIZE;
+        double scaleY = (double) height / INPUT_SIZE;
+        for (int oy = 0; oy < INPUT_SIZE; oy++) {
+            for (int ox = 0; ox < INPUT_SIZE; ox++) {
+                double value = scaleX >= 1 && scaleY >= 1
+                        ? areaSample(width, ox * scaleX, oy * scaleY, scaleX, scaleY)
+                        : bilinearSample(width, height, (ox + 0.5) * scaleX - 0.5, (oy + 0.5) * scaleY - 0.5);
+                out[offset + oy * INPUT_SIZE + ox] = (float) (Math.round(value) / 255.0);
+            }
+        }
+    }
+
+    // INTER_AREA: coverage-weighted mean of the 'square' pixels under one output pixel
+    private double areaSample(int width, double x0, double y0, double scaleX, double scaleY) {
+        double x1 = x0 + scaleX;
+        double y1 = y0 + scaleY;
+        double sum = 0;
+        for (int sy = (int) y0; sy < Math.ceil(y1); sy++) {
+            double wy = Math.min(y1, sy + 1) - Math.max(y0, sy);
+            for (int sx = (int) x0; sx < Math.ceil(x1); sx++) {
+                double wx = Math.min(x1, sx + 1) - Math.max(x0, sx);
+                sum += wx * wy * square[sy * width + sx];
+            }
+        }
+        return sum / (scaleX * scaleY);
+    }
+
+    // Upscaling falls back to bilinear, as INTER_AREA does
+    private double bilinearSample(int width, int height, double x, double y) {
+        x = Math.max(0, x);
+        y = Math.max(0, y);
+        int x0 = Math.min((int) x, width - 1);
+        int y0 = Math.min((int) y, height - 1);
+        int x1 = Math.min(x0 + 1, width - 1);
+        int y1 = Math.min(y0 + 1, height - 1);
+        double fx = x - x0;
+        double fy = y - y0;
+        double top = square[y0 * width + x0] * (1 - fx) + square[y0 * width + x1] * fx;
+        double bottom = square[y1 * width + x0] * (1 - fx) + square[y1 * width + x1] * fx;
+        return top * (1 - fy) + bottom * fy;
+    }
+}
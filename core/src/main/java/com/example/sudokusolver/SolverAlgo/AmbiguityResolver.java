@@ -0,0 +1,207 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Repairs OCR misreads using the recognizer's per-cell digit probabilities. Each plausible
+// alternative reading of a cell costs -log(p_alt / p_read); sets of alternatives are tried in
+// order of increasing total cost (best-first, so the most likely correction comes first) and the
+// first set giving a valid grid with exactly one solution wins. Only cells the recognizer was
+// unsure about have alternatives, and most sets are rejected by the O(81) rule check before any
+// search runs, so the common one-or-two-misread case resolves in milliseconds.
+public class AmbiguityResolver {
+
+    public static class Resolution {
+        private final byte[] givens;
+        private final byte[] solution;
+        private final int[] changedCells;
+        private final double cost;
+
+        Resolution(byte[] givens, byte[] solution, int[] changedCells, double cost) {
+            this.givens = givens;
+            this.solution = solution;
+            this.changedCells = changedCells;
+            this.cost = cost;
+        }
+
+        // The corrected clues
+        public byte[] getGivens() {
+            return givens;
+        }
+
+        public byte[] getSolution() {
+            return solution;
+        }
+
+        // Cells whose reading was replaced, in increasing order; empty if the grid was fine as read
+        public int[] getChangedCells() {
+            return changedCells;
+        }
+
+        // Negative log-likelihood of the corrections relative to the original reading
+        public double getCost() {
+            return cost;
+        }
+    }
+
+    private static final int CELLS = 81;
+    // Alternatives considered per cell, most likely first
+    private static final int MAX_ALTERNATIVES = 3;
+    // Readings less likely than this are never tried
+    private static final float MIN_PROBABILITY = 0.02f;
+    private static final int MAX_CHANGES = 4;
+    private static final int DEFAULT_MAX_EVALUATIONS = 5000;
+
+    private final int maxEvaluations;
+    private final SudokuSolver solver = new SudokuSolver();
+
+    public AmbiguityResolver() {
+        this(DEFAULT_MAX_EVALUATIONS);
+    }
+
+    // 'maxEvaluations' bounds the number of candidate grids checked before giving up
+    public AmbiguityResolver(int maxEvaluations) {
+        if (maxEvaluations < 1) {
+            throw new IllegalArgumentException("At least one evaluation is needed.");
+        }
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    // Null when the grid carries no probabilities or no likely correction solves it uniquely
+    public Resolution resolve(SudokuGrid grid) {
+        if (grid.getSize() != 9 || grid.getProbabilities() == null) {
+            return null;
+        }
+        return resolve(grid.getCells(), grid.getProbabilities());
+    }
+
+    // 'probabilities' holds one row per cell (index 0 = blank, 1-9 = digits), or null rows for
+    // cells that are certain, such as ones the user typed
+    public Resolution resolve(byte[] cells, float[][] probabilities) {
+        if (cells.length != CELLS || probabilities.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+
+        // Alternative readings of every cell, sorted by cost
+        List<Option> options = new ArrayList<>();
+        for (int cell = 0; cell < CELLS; cell++) {
+            addOptions(cell, cells[cell], probabilities[cell], options);
+        }
+        options.sort((a, b) -> Double.compare(a.cost, b.cost));
+        int count = options.size();
+
+        byte[] work = new byte[CELLS];
+        byte[] solution = new byte[CELLS];
+        int[] touched = new int[CELLS];
+        int stamp = 0;
+
+        // Lawler-style enumeration: subset S with highest option m spawns S + {m+1} and
+        // S - {m} + {m+1}, which visits every subset exactly once in nondecreasing cost
+        PriorityQueue<Subset> queue = new PriorityQueue<>((a, b) -> Double.compare(a.cost, b.cost));
+        queue.add(new Subset(null, -1, 0, 0));
+        for (int evaluations = 0; !queue.isEmpty() && evaluations < maxEvaluations; ) {
+            Subset subset = queue.poll();
+            int next = subset.option + 1;
+            if (next < count) {
+                if (subset.size < MAX_CHANGES) {
+                    queue.add(new Subset(subset, next, subset.cost + options.get(next).cost, subset.size + 1));
+                }
+                if (subset.option >= 0) {
+                    queue.add(new Subset(subset.parent, next,
+                            subset.cost - options.get(subset.option).cost + options.get(next).cost, subset.size));
+                }
+            }
+
+            // Apply the subset, skipping ones that change a cell twice
+            System.arraycopy(cells, 0, work, 0, CELLS);
+            stamp++;
+            boolean clash = false;
+            for (Subset s = subset; s != null && s.option >= 0; s = s.parent) {
+                Option option = options.get(s.option);
+                if (touched[option.cell] == stamp) {
+                    clash = true;
+                    break;
+                }
+                touched[option.cell] = stamp;
+                work[option.cell] = option.digit;
+            }
+            if (clash) {
+                continue;
+            }
+            evaluations++;
+            if (!solver.isValidGrid(work)) {
+                continue;
+            }
+            if (solver.solve(work, solution) == SudokuSolver.UNIQUE) {
+                return new Resolution(work.clone(), solution.clone(), changedCells(subset, options), subset.cost);
+            }
+        }
+        return null;
+    }
+
+    private static void addOptions(int cell, int read, float[] row, List<Option> options) {
+        if (row == null || row.length != 10) {
+            return;
+        }
+        float readProbability = Math.max(row[read], MIN_PROBABILITY);
+        // Digits other than the reading, most likely first
+        Integer[] digits = new Integer[10];
+        for (int d = 0; d < 10; d++) {
+            digits[d] = d;
+        }
+        Arrays.sort(digits, (a, b) -> Float.compare(row[b], row[a]));
+        int added = 0;
+        for (int i = 0; i < 10 && added < MAX_ALTERNATIVES; i++) {
+            int digit = digits[i];
+            if (digit == read || row[digit] < MIN_PROBABILITY) {
+                continue;
+            }
+            // Clamped at zero: a reading the recognizer rejected for low confidence may be less
+            // likely than its alternative, and the enumeration needs non-negative costs
+            double cost = Math.max(0, Math.log(readProbability) - Math.log(row[digit]));
+            options.add(new Option(cell, (byte) digit, cost));
+            added++;
+        }
+    }
+
+    private static int[] changedCells(Subset subset, List<Option> options) {
+        int[] changed = new int[subset.size];
+        int i = 0;
+        for (Subset s = subset; s != null && s.option >= 0; s = s.parent) {
+            changed[i++] = options.get(s.option).cell;
+        }
+        Arrays.sort(changed);
+        return changed;
+    }
+
+    private static final class Option {
+        final int cell;
+        final byte digit;
+        final double cost;
+
+        Option(int cell, byte digit, double cost) {
+            this.cell = cell;
+            this.digit = digit;
+            this.cost = cost;
+        }
+    }
+
+    // Set of option indices as a chain ending in its highest index
+    private static final class Subset {
+        final Subset parent;
+        final int option;
+        final double cost;
+        final int size;
+
+        Subset(Subset parent, int option, double cost, int size) {
+            this.parent = parent;
+            this.option = option;
+            this.cost = cost;
+            this.size = size;
+        }
+    }
+}
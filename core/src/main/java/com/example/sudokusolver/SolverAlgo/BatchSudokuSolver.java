@@ -0,0 +1,97 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Solves many grids across a ForkJoinPool. Each worker thread keeps its own SudokuSolver, so the
+// shared instance is thread-safe and results come back in input order.
+public class BatchSudokuSolver {
+
+    // Grids per leaf task; small enough that one slow puzzle does not stall a whole chunk
+    private static final int LEAF_SIZE = 32;
+    private static final int CELLS = 81;
+
+    private final ForkJoinPool pool;
+    private final SudokuSolver.Engine engine;
+    private final ThreadLocal<SudokuSolver> solvers = ThreadLocal.withInitial(SudokuSolver::new);
+
+    public BatchSudokuSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BatchSudokuSolver(ForkJoinPool pool) {
+        this(pool, SudokuSolver.Engine.BACKTRACKING);
+    }
+
+    public BatchSudokuSolver(ForkJoinPool pool, SudokuSolver.Engine engine) {
+        this.pool = pool;
+        this.engine = engine;
+    }
+
+    // Solutions are returned in the results. getCells() converts a grid's list form in place, so
+    // it runs here on the calling thread rather than in the tasks, where a grid listed twice would race.
+    public List<SolveResult> solveAll(List<SudokuGrid> grids) {
+        byte[][] puzzles = new byte[grids.size()][];
+        for (int i = 0; i < puzzles.length; i++) {
+            puzzles[i] = grids.get(i).getCells();
+        }
+        return Arrays.asList(solveAll(puzzles));
+    }
+
+    public List<SolveResult> solveAll(Stream<SudokuGrid> grids) {
+        return solveAll(grids.collect(Collectors.toList()));
+    }
+
+    // The puzzles are only read
+    public SolveResult[] solveAll(byte[][] puzzles) {
+        SolveResult[] results = new SolveResult[puzzles.length];
+        if (puzzles.length > 0) {
+            pool.invoke(new SolveRange(puzzles, results, 0, puzzles.length));
+        }
+        return results;
+    }
+
+    private SolveResult solveOne(byte[] puzzle) {
+        if (puzzle == null || puzzle.length != CELLS) {
+            return new SolveResult(SolveResult.Status.INVALID, null);
+        }
+        byte[] solution = new byte[CELLS];
+        return SudokuSolver.toResult(solvers.get().solve(puzzle, solution, engine), solution);
+    }
+
+    private class SolveRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[][] puzzles;
+        private final SolveResult[] results;
+        private final int from;
+        private final int to;
+
+        SolveRange(byte[][] puzzles, SolveResult[] results, int from, int to) {
+            this.puzzles = puzzles;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    results[i] = solveOne(puzzles[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SolveRange(puzzles, results, from, mid),
+                    new SolveRange(puzzles, results, mid, to));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.PackedGrid;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+// SudokuSolver behind a SolutionCache. Puzzles are reduced to their canonical form first, so a
+// resubmitted puzzle, or the same puzzle relabelled, transposed or with lines shuffled, is
+// answered by mapping the cached solution back instead of searching. Like SudokuSolver, an
+// instance is not thread-safe; the cache it uses may be shared.
+public class CachingSudokuSolver {
+
+    private static final int CELLS = 81;
+
+    private final SolutionCache cache;
+    private final SudokuSolver solver = new SudokuSolver();
+    private final byte[] canonicalSolution = new byte[CELLS];
+
+    public CachingSudokuSolver(SolutionCache cache) {
+        this.cache = cache;
+    }
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        byte[] cells = model.getCells();
+        int result = solve(cells, cells);
+
+        if (result == SudokuSolver.INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == SudokuSolver.NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == SudokuSolver.MULTIPLE;
+    }
+
+    // Same contract and result codes as SudokuSolver.solve(byte[], byte[])
+    public int solve(byte[] in, byte[] out) {
+        if (in.length != CELLS || out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        // Cheap to check and not worth a cache slot
+        if (!solver.isValidGrid(in)) {
+            return SudokuSolver.INVALID;
+        }
+
+        CanonicalForm form = CanonicalForm.of(in);
+        SolutionCache.Cached entry = cache.get(form.cells);
+        int result;
+        if (entry != null) {
+            result = entry.result;
+            if (entry.solution != null) {
+                PackedGrid.unpack(entry.solution, 0, canonicalSolution);
+            }
+        } else {
+            result = solver.solve(form.cells, canonicalSolution);
+            cache.put(form.cells, result, result > 0 ? canonicalSolution : null);
+        }
+
+        if (result > 0) {
+            form.toOriginal(canonicalSolution, out);
+        }
+        return result;
+    }
+}
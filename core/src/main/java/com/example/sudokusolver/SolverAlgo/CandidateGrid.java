@@ -0,0 +1,128 @@
+package com.example.sudokusolver.SolverAlgo;
+
+// Pencil-mark view of a 9x9 board used by the logical techniques: the placed value of every cell
+// plus, for empty cells, a 9-bit mask of the digits still possible there (bit d - 1 for digit d).
+public class CandidateGrid {
+
+    static final int SIZE = 9;
+    static final int CELLS = SIZE * SIZE;
+    static final int ALL_DIGITS = (1 << SIZE) - 1;
+
+    // Cells of the 27 units: rows 0-8, columns 9-17, boxes 18-26
+    static final int[][] UNITS = new int[3 * SIZE][SIZE];
+    // The three units and the 20 peers of every cell
+    static final int[][] UNITS_OF = new int[CELLS][3];
+    static final int[][] PEERS = new int[CELLS][20];
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int box = (row / 3) * 3 + col / 3;
+            UNITS[row][col] = cell;
+            UNITS[SIZE + col][row] = cell;
+            UNITS[2 * SIZE + box][(row % 3) * 3 + col % 3] = cell;
+            UNITS_OF[cell][0] = row;
+            UNITS_OF[cell][1] = SIZE + col;
+            UNITS_OF[cell][2] = 2 * SIZE + box;
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            int count = 0;
+            for (int other = 0; other < CELLS; other++) {
+                if (other != cell && (sameUnit(cell, other, 0) || sameUnit(cell, other, 1) || sameUnit(cell, other, 2))) {
+                    PEERS[cell][count++] = other;
+                }
+            }
+        }
+    }
+
+    private static boolean sameUnit(int a, int b, int kind) {
+        return UNITS_OF[a][kind] == UNITS_OF[b][kind];
+    }
+
+    private final byte[] values = new byte[CELLS];
+    private final int[] candidates = new int[CELLS];
+    private int emptyCount;
+    private boolean broken;
+
+    // Loads the givens and derives every candidate mask; returns false if two givens conflict
+    public boolean load(byte[] cells) {
+        if (cells.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            values[cell] = 0;
+            candidates[cell] = ALL_DIGITS;
+        }
+        emptyCount = CELLS;
+        broken = false;
+
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = cells[cell];
+            if (value != 0 && (value < 1 || value > SIZE || !place(cell, value))) {
+                broken = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void copyFrom(CandidateGrid other) {
+        System.arraycopy(other.values, 0, values, 0, CELLS);
+        System.arraycopy(other.candidates, 0, candidates, 0, CELLS);
+        emptyCount = other.emptyCount;
+        broken = other.broken;
+    }
+
+    public int getValue(int cell) {
+        return values[cell];
+    }
+
+    // Candidate mask of an empty cell, 0 once the cell is filled
+    public int getCandidates(int cell) {
+        return candidates[cell];
+    }
+
+    public boolean isSolved() {
+        return emptyCount == 0 && !broken;
+    }
+
+    // True once some empty cell has run out of candidates or a placement clashed with a peer
+    public boolean isBroken() {
+        return broken;
+    }
+
+    public void copyValuesTo(byte[] out) {
+        System.arraycopy(values, 0, out, 0, CELLS);
+    }
+
+    // Fills 'cell' with 'digit' and removes the digit from all peers
+    public boolean place(int cell, int digit) {
+        int bit = 1 << (digit - 1);
+        if (values[cell] != 0 || (candidates[cell] & bit) == 0) {
+            broken = true;
+            return false;
+        }
+        values[cell] = (byte) digit;
+        candidates[cell] = 0;
+        emptyCount--;
+        for (int peer : PEERS[cell]) {
+            eliminate(peer, bit);
+        }
+        return true;
+    }
+
+    // Removes the digits in 'mask' from an empty cell; returns true if anything was removed
+    public boolean eliminate(int cell, int mask) {
+        int before = candidates[cell];
+        int after = before & ~mask;
+        if (after == before) {
+            return false;
+        }
+        candidates[cell] = after;
+        if (after == 0 && values[cell] == 0) {
+            broken = true;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.sudokusolver.SolverAlgo;
+
+// A representative of a puzzle's class under the validity-preserving Sudoku symmetries:
+// transposition (which with line reordering also covers rotations and reflections), band and
+// stack permutations, row and column permutations inside them, and digit relabelling.
+//
+// Lines are ordered by clue count (most clues first), ties keeping their original order, and
+// digits are renamed in order of first appearance; the smaller of the plain and transposed results
+// wins. Relabellings always land on the same form. Geometric variants do whenever the clue counts
+// break the ties, which is the common case for real puzzles; when they do not, equivalent puzzles
+// may get different forms, costing only a cache miss.
+final class CanonicalForm {
+
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+
+    final byte[] cells = new byte[CELLS];
+    // Canonical row r is taken from row rowOrder[r] of the (possibly transposed) puzzle, same for columns
+    private final int[] rowOrder = new int[SIZE];
+    private final int[] colOrder = new int[SIZE];
+    private boolean transposed;
+    // relabel[original digit] = canonical digit, a full permutation of 1..9
+    private final byte[] relabel = new byte[SIZE + 1];
+    private final byte[] restore = new byte[SIZE + 1];
+
+    static CanonicalForm of(byte[] puzzle) {
+        CanonicalForm plain = new CanonicalForm(puzzle, false);
+        CanonicalForm transposed = new CanonicalForm(puzzle, true);
+        return compare(plain.cells, transposed.cells) <= 0 ? plain : transposed;
+    }
+
+    private CanonicalForm(byte[] puzzle, boolean transposed) {
+        this.transposed = transposed;
+        int[] rowCounts = new int[SIZE];
+        int[] colCounts = new int[SIZE];
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                if (source(puzzle, r, c) != 0) {
+                    rowCounts[r]++;
+                    colCounts[c]++;
+                }
+            }
+        }
+        orderLines(rowCounts, rowOrder);
+        orderLines(colCounts, colOrder);
+
+        int next = 1;
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                int digit = source(puzzle, rowOrder[r], colOrder[c]);
+                if (digit != 0 && relabel[digit] == 0) {
+                    relabel[digit] = (byte) next++;
+                }
+                cells[r * SIZE + c] = relabel[digit];
+            }
+        }
+        // Digits missing from the givens still need a label for the solution
+        for (int digit = 1; digit <= SIZE; digit++) {
+            if (relabel[digit] == 0) {
+                relabel[digit] = (byte) next++;
+            }
+            restore[relabel[digit]] = (byte) digit;
+        }
+    }
+
+    private byte source(byte[] puzzle, int r, int c) {
+        return transposed ? puzzle[c * SIZE + r] : puzzle[r * SIZE + c];
+    }
+
+    // Sorts the three bands by total clues, then the three lines inside each band, most clues first
+    private static void orderLines(int[] counts, int[] order) {
+        int[] bands = {0, 1, 2};
+        int[] bandCounts = new int[3];
+        for (int line = 0; line < SIZE; line++) {
+            bandCounts[line / 3] += counts[line];
+        }
+        sortDescending(bands, bandCounts);
+
+        for (int b = 0; b < 3; b++) {
+            int[] lines = {bands[b] * 3, bands[b] * 3 + 1, bands[b] * 3 + 2};
+            int[] lineCounts = {counts[lines[0]], counts[lines[1]], counts[lines[2]]};
+            sortDescending(lines, lineCounts);
+            System.arraycopy(lines, 0, order, b * 3, 3);
+        }
+    }
+
+    // Stable sort of three items by key, largest first
+    private static void sortDescending(int[] items, int[] keys) {
+        for (int i = 1; i < 3; i++) {
+            for (int j = i; j > 0 && keys[j] > keys[j - 1]; j--) {
+                int key = keys[j];
+                keys[j] = keys[j - 1];
+                keys[j - 1] = key;
+                int item = items[j];
+                items[j] = items[j - 1];
+                items[j - 1] = item;
+            }
+        }
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < CELLS; i++) {
+            if (a[i] != b[i]) {
+                return a[i] - b[i];
+            }
+        }
+        return 0;
+    }
+
+    // Maps a solution of the canonical puzzle back onto the original puzzle's layout and digits
+    void toOriginal(byte[] canonical, byte[] out) {
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                int row = rowOrder[r];
+                int col = colOrder[c];
+                int index = transposed ? col * SIZE + row : row * SIZE + col;
+                out[index] = restore[canonical[r * SIZE + c]];
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.Arrays;
+
+// Knuth's Algorithm X on dancing links. Sudoku is an exact cover problem with 324 constraints
+// (cell filled, row/digit, column/digit, box/digit) and 729 options (digit d in cell c), each option
+// covering exactly four constraints. All links live in flat int arrays that are copied from a
+// pristine template at the start of every call, so a solve allocates nothing.
+public class DancingLinksSolver {
+
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int COLUMNS = 4 * CELLS;
+    private static final int OPTIONS = CELLS * SIZE;
+    private static final int ROOT = 0;
+    // Node 0 is the root, 1..324 are column headers, then four nodes per option
+    private static final int NODES = 1 + COLUMNS + 4 * OPTIONS;
+
+    private static final int[] TEMPLATE_LEFT = new int[NODES];
+    private static final int[] TEMPLATE_RIGHT = new int[NODES];
+    private static final int[] TEMPLATE_UP = new int[NODES];
+    private static final int[] TEMPLATE_DOWN = new int[NODES];
+    private static final int[] TEMPLATE_SIZE = new int[COLUMNS + 1];
+    // Header of the column each node belongs to, and the option (cell * 9 + digit - 1) of each node
+    private static final int[] COLUMN_OF = new int[NODES];
+    private static final int[] OPTION_OF = new int[NODES];
+
+    static {
+        for (int header = 0; header <= COLUMNS; header++) {
+            TEMPLATE_LEFT[header] = header == 0 ? COLUMNS : header - 1;
+            TEMPLATE_RIGHT[header] = header == COLUMNS ? 0 : header + 1;
+            TEMPLATE_UP[header] = header;
+            TEMPLATE_DOWN[header] = header;
+            COLUMN_OF[header] = header;
+        }
+
+        int node = COLUMNS + 1;
+        for (int option = 0; option < OPTIONS; option++) {
+            int first = node;
+            for (int k = 0; k < 4; k++, node++) {
+                int header = columnOf(option, k);
+                // Append at the bottom of the column
+                TEMPLATE_UP[node] = TEMPLATE_UP[header];
+                TEMPLATE_DOWN[node] = header;
+                TEMPLATE_DOWN[TEMPLATE_UP[header]] = node;
+                TEMPLATE_UP[header] = node;
+                TEMPLATE_SIZE[header]++;
+                // Circular row links
+                TEMPLATE_LEFT[node] = k == 0 ? first + 3 : node - 1;
+                TEMPLATE_RIGHT[node] = k == 3 ? first : node + 1;
+                COLUMN_OF[node] = header;
+                OPTION_OF[node] = option;
+            }
+        }
+    }
+
+    // Column header (1-based) of the k-th constraint covered by an option
+    private static int columnOf(int option, int k) {
+        int cell = option / SIZE;
+        int digit = option % SIZE;
+        int row = cell / SIZE;
+        int col = cell % SIZE;
+        int box = (row / 3) * 3 + col / 3;
+        switch (k) {
+            case 0:
+                return 1 + cell;
+            case 1:
+                return 1 + CELLS + row * SIZE + digit;
+            case 2:
+                return 1 + 2 * CELLS + col * SIZE + digit;
+            default:
+                return 1 + 3 * CELLS + box * SIZE + digit;
+        }
+    }
+
+    private final int[] left = new int[NODES];
+    private final int[] right = new int[NODES];
+    private final int[] up = new int[NODES];
+    private final int[] down = new int[NODES];
+    private final int[] size = new int[COLUMNS + 1];
+    private final boolean[] covered = new boolean[COLUMNS + 1];
+
+    // Option node chosen at each search depth
+    private final int[] chosen = new int[CELLS];
+    private byte[] solution;
+    private int solutionCount;
+    private int solutionLimit;
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        byte[] cells = model.getCells();
+        int result = solve(cells, cells);
+
+        if (result == SudokuSolver.INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == SudokuSolver.NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == SudokuSolver.MULTIPLE;
+    }
+
+    // Same contract and result codes as SudokuSolver.solve(byte[], byte[])
+    public int solve(byte[] in, byte[] out) {
+        if (out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        return run(in, out, 2);
+    }
+
+    // Number of solutions, stopping as soon as 'limit' is reached, or SudokuSolver.INVALID.
+    // countSolutions(grid, 2) answers "none, unique or several" without enumerating further.
+    public int countSolutions(byte[] in, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return run(in, null, limit);
+    }
+
+    public int countSolutions(SudokuGrid model, int limit) {
+        return countSolutions(model.getCells(), limit);
+    }
+
+    private int run(byte[] in, byte[] out, int limit) {
+        if (in.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        reset();
+        if (!coverGivens(in)) {
+            return SudokuSolver.INVALID;
+        }
+
+        solution = out;
+        solutionCount = 0;
+        solutionLimit = limit;
+        search(0);
+        if (out != null && solutionCount > 0) {
+            // Givens are not part of the chosen options
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (in[cell] != 0) {
+                    out[cell] = in[cell];
+                }
+            }
+        }
+        solution = null;
+
+        return solutionCount;
+    }
+
+    private void reset() {
+        System.arraycopy(TEMPLATE_LEFT, 0, left, 0, NODES);
+        System.arraycopy(TEMPLATE_RIGHT, 0, right, 0, NODES);
+        System.arraycopy(TEMPLATE_UP, 0, up, 0, NODES);
+        System.arraycopy(TEMPLATE_DOWN, 0, down, 0, NODES);
+        System.arraycopy(TEMPLATE_SIZE, 0, size, 0, COLUMNS + 1);
+        Arrays.fill(covered, false);
+    }
+
+    // Removes the constraints satisfied by the givens; two givens sharing a constraint are a conflict
+    private boolean coverGivens(byte[] in) {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = in[cell];
+            if (value == 0) {
+                continue;
+            }
+            if (value < 1 || value > SIZE) {
+                return false;
+            }
+            int option = cell * SIZE + value - 1;
+            for (int k = 0; k < 4; k++) {
+                if (covered[columnOf(option, k)]) {
+                    return false;
+                }
+            }
+            for (int k = 0; k < 4; k++) {
+                int header = columnOf(option, k);
+                covered[header] = true;
+                cover(header);
+            }
+        }
+        return true;
+    }
+
+    private void search(int depth) {
+        if (right[ROOT] == ROOT) {
+            if (solutionCount == 0 && solution != null) {
+                for (int i = 0; i < depth; i++) {
+                    int option = OPTION_OF[chosen[i]];
+                    solution[option / SIZE] = (byte) (option % SIZE + 1);
+                }
+            }
+            solutionCount++;
+            return;
+        }
+
+        // Branch on the constraint with the fewest remaining options
+        int column = right[ROOT];
+        int best = size[column];
+        for (int header = right[column]; header != ROOT && best > 1; header = right[header]) {
+            if (size[header] < best) {
+                column = header;
+                best = size[header];
+            }
+        }
+        if (best == 0) {
+            return;
+        }
+
+        cover(column);
+        for (int row = down[column]; row != column && solutionCount < solutionLimit; row = down[row]) {
+            chosen[depth] = row;
+            for (int node = right[row]; node != row; node = right[node]) {
+                cover(COLUMN_OF[node]);
+            }
+            search(depth + 1);
+            for (int node = left[row]; node != row; node = left[node]) {
+                uncover(COLUMN_OF[node]);
+            }
+        }
+        uncover(column);
+    }
+
+    private void cover(int column) {
+        right[left[column]] = right[column];
+        left[right[column]] = left[column];
+        for (int row = down[column]; row != column; row = down[row]) {
+            for (int node = right[row]; node != row; node = right[node]) {
+                up[down[node]] = up[node];
+                down[up[node]] = down[node];
+                size[COLUMN_OF[node]]--;
+            }
+        }
+    }
+
+    private void uncover(int column) {
+        for (int row = up[column]; row != column; row = up[row]) {
+            for (int node = left[row]; node != row; node = left[node]) {
+                size[COLUMN_OF[node]]++;
+                down[up[node]] = node;
+                up[down[node]] = node;
+            }
+        }
+        right[left[column]] = column;
+        left[right[column]] = column;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// X-wing (n = 2) and swordfish (n = 3): if a digit's candidates in n rows all fall in the same n
+// columns, the digit is removed from those columns in every other row. The same holds with rows
+// and columns swapped.
+public class Fish implements Technique {
+
+    private final int size;
+
+    public Fish(int size) {
+        if (size < 2 || size > 4) {
+            throw new IllegalArgumentException("Fish size must be between 2 and 4.");
+        }
+        this.size = size;
+    }
+
+    @Override
+    public String getName() {
+        return size == 2 ? "X-wing" : size == 3 ? "Swordfish" : "Jellyfish";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return Difficulty.HARD;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        // positions[line]: mask of cross-line indices where the digit is a candidate
+        int[] positions = new int[CandidateGrid.SIZE];
+        for (int digit = 0; digit < CandidateGrid.SIZE; digit++) {
+            int bit = 1 << digit;
+            for (int base = 0; base <= CandidateGrid.SIZE; base += CandidateGrid.SIZE) {
+                for (int line = 0; line < CandidateGrid.SIZE; line++) {
+                    positions[line] = 0;
+                    int[] cells = CandidateGrid.UNITS[base + line];
+                    for (int i = 0; i < cells.length; i++) {
+                        if ((grid.getCandidates(cells[i]) & bit) != 0) {
+                            positions[line] |= 1 << i;
+                        }
+                    }
+                }
+                int cover = base == 0 ? CandidateGrid.SIZE : 0;
+                progress |= search(grid, bit, base, cover, positions, 0, 0, 0, 0);
+            }
+        }
+        return progress;
+    }
+
+    private boolean search(CandidateGrid grid, int bit, int base, int cover, int[] positions,
+                           int start, int chosen, int lines, int crossMask) {
+        if (Integer.bitCount(crossMask) > size) {
+            return false;
+        }
+        if (chosen == size) {
+            boolean progress = false;
+            for (int cross = 0; cross < CandidateGrid.SIZE; cross++) {
+                if ((crossMask & (1 << cross)) == 0) {
+                    continue;
+                }
+                int[] cells = CandidateGrid.UNITS[cover + cross];
+                for (int i = 0; i < cells.length; i++) {
+                    if ((lines & (1 << i)) == 0) {
+                        progress |= grid.eliminate(cells[i], bit);
+                    }
+                }
+            }
+            return progress;
+        }
+        boolean progress = false;
+        for (int line = start; line < CandidateGrid.SIZE; line++) {
+            int count = Integer.bitCount(positions[line]);
+            if (count >= 2 && count <= size) {
+                progress |= search(grid, bit, base, cover, positions, line + 1, chosen + 1,
+                        lines | (1 << line), crossMask | positions[line]);
+            }
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+// SudokuSolver's bitmask MRV search for any box size from 2 (4x4) to 6 (36x36). Digits run from 1
+// to side = boxSize^2, so candidate sets are longs (bit d - 1 for digit d) and all unit tables are
+// built once per instance from the box size.
+public class GeneralSudokuSolver {
+
+    private final int boxSize;
+    private final int side;
+    private final int cellCount;
+    private final long allDigits;
+
+    private final int[] rowOf;
+    private final int[] colOf;
+    private final int[] boxOf;
+    // Cells of every unit: rows, then columns, then boxes
+    private final int[][] units;
+
+    private final long[] rowUsed;
+    private final long[] colUsed;
+    private final long[] boxUsed;
+
+    private final byte[] board;
+    private final int[] emptyCells;
+    private int emptyCount;
+    private final long[] candidates;
+
+    private byte[] solution;
+    private int solutionCount;
+    private int solutionLimit;
+
+    // Set only for solves given a SolveControl; polled every SolveControl.CHECK_INTERVAL nodes
+    private SolveControl control;
+    private boolean cancelled;
+    private long nodes;
+
+    public GeneralSudokuSolver(int boxSize) {
+        if (boxSize < 2 || boxSize > 6) {
+            throw new IllegalArgumentException("Box size must be between 2 and 6.");
+        }
+        this.boxSize = boxSize;
+        this.side = boxSize * boxSize;
+        this.cellCount = side * side;
+        this.allDigits = (1L << side) - 1;
+
+        rowOf = new int[cellCount];
+        colOf = new int[cellCount];
+        boxOf = new int[cellCount];
+        units = new int[3 * side][side];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int row = cell / side;
+            int col = cell % side;
+            int box = (row / boxSize) * boxSize + col / boxSize;
+            rowOf[cell] = row;
+            colOf[cell] = col;
+            boxOf[cell] = box;
+            units[row][col] = cell;
+            units[side + col][row] = cell;
+            units[2 * side + box][(row % boxSize) * boxSize + col % boxSize] = cell;
+        }
+
+        rowUsed = new long[side];
+        colUsed = new long[side];
+        boxUsed = new long[side];
+        board = new byte[cellCount];
+        emptyCells = new int[cellCount];
+        candidates = new long[cellCount];
+    }
+
+    public int getBoxSize() {
+        return boxSize;
+    }
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        if (model.getSize() != side) {
+            throw new IllegalArgumentException("Expected a " + side + "x" + side + " grid.");
+        }
+        byte[] cells = model.getCells();
+        return check(solve(cells, cells));
+    }
+
+    // Like solveSudoku(SudokuGrid), but gives up with a CancellationException once 'control' is
+    // cancelled or its deadline passes; the model may then already hold a solution.
+    public boolean solveSudoku(SudokuGrid model, SolveControl control)
+            throws IllegalArgumentException, CancellationException {
+        if (model.getSize() != side) {
+            throw new IllegalArgumentException("Expected a " + side + "x" + side + " grid.");
+        }
+        byte[] cells = model.getCells();
+        int result = solve(cells, cells, control);
+        if (result == SudokuSolver.CANCELLED) {
+            throw new CancellationException("Solving was cancelled or timed out.");
+        }
+        return check(result);
+    }
+
+    // Turns a result code into solveSudoku's return value, or its exception
+    private static boolean check(int result) {
+        if (result == SudokuSolver.INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == SudokuSolver.NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == SudokuSolver.MULTIPLE;
+    }
+
+    // Same contract and result codes as SudokuSolver.solve(byte[], byte[]), over side^2 cells
+    public int solve(byte[] in, byte[] out) {
+        if (out.length != cellCount) {
+            throw new IllegalArgumentException("Expected " + cellCount + " cells.");
+        }
+        return run(in, out, 2);
+    }
+
+    // solve(byte[], byte[]) under a SolveControl; returns CANCELLED if it stopped the search
+    public int solve(byte[] in, byte[] out, SolveControl control) {
+        if (out.length != cellCount) {
+            throw new IllegalArgumentException("Expected " + cellCount + " cells.");
+        }
+        return runControlled(in, out, 2, control);
+    }
+
+    public int countSolutions(byte[] in, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return run(in, null, limit);
+    }
+
+    public int countSolutions(byte[] in, int limit, SolveControl control) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return runControlled(in, null, limit, control);
+    }
+
+    private int runControlled(byte[] in, byte[] out, int limit, SolveControl control) {
+        if (control == null) {
+            return run(in, out, limit);
+        }
+        if (control.stopIfCancelled()) {
+            return SudokuSolver.CANCELLED;
+        }
+        this.control = control;
+        try {
+            int result = run(in, out, limit);
+            return cancelled ? SudokuSolver.CANCELLED : result;
+        } finally {
+            this.control = null;
+        }
+    }
+
+    private int run(byte[] in, byte[] out, int limit) {
+        if (in.length != cellCount) {
+            throw new IllegalArgumentException("Expected " + cellCount + " cells.");
+        }
+        // Reset first, as an invalid grid returns before the search starts
+        cancelled = false;
+        if (!load(in)) {
+            return SudokuSolver.INVALID;
+        }
+
+        solution = out;
+        solutionCount = 0;
+        solutionLimit = limit;
+        nodes = 0;
+        search(0);
+        solution = null;
+
+        return solutionCount;
+    }
+
+    private boolean load(byte[] grid) {
+        Arrays.fill(rowUsed, 0);
+        Arrays.fill(colUsed, 0);
+        Arrays.fill(boxUsed, 0);
+        emptyCount = 0;
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            int value = grid[cell];
+            board[cell] = (byte) value;
+            if (value == 0) {
+                emptyCells[emptyCount++] = cell;
+                continue;
+            }
+            if (value < 1 || value > side) {
+                return false;
+            }
+            long bit = 1L << (value - 1);
+            if (((rowUsed[rowOf[cell]] | colUsed[colOf[cell]] | boxUsed[boxOf[cell]]) & bit) != 0) {
+                return false;
+            }
+            place(cell, bit);
+        }
+        return true;
+    }
+
+    private void search(int depth) {
+        if (control != null && countNode(depth)) {
+            return;
+        }
+        if (depth == emptyCount) {
+            if (solutionCount == 0 && solution != null) {
+                System.arraycopy(board, 0, solution, 0, cellCount);
+            }
+            solutionCount++;
+            return;
+        }
+
+        // Minimum remaining values: pick the empty cell with the fewest candidates
+        int bestIndex = depth;
+        long bestCandidates = 0;
+        int bestCount = side + 1;
+        for (int i = depth; i < emptyCount; i++) {
+            int cell = emptyCells[i];
+            long cellCandidates = candidatesOf(cell);
+            candidates[cell] = cellCandidates;
+            int count = Long.bitCount(cellCandidates);
+            if (count < bestCount) {
+                bestIndex = i;
+                bestCandidates = cellCandidates;
+                bestCount = count;
+                if (count == 0) {
+                    return;
+                }
+            }
+        }
+
+        // No naked single: look for a digit that fits only one cell of some unit
+        if (bestCount > 1) {
+            for (int[] unit : units) {
+                long once = 0;
+                long twice = 0;
+                long used = 0;
+                for (int cell : unit) {
+                    long cellCandidates = board[cell] == 0 ? candidates[cell] : 0;
+                    twice |= once & cellCandidates;
+                    once |= cellCandidates;
+                    if (board[cell] != 0) {
+                        used |= 1L << (board[cell] - 1);
+                    }
+                }
+                if ((once | used) != allDigits) {
+                    return;
+                }
+                long hidden = once & ~twice;
+                if (hidden != 0) {
+                    long bit = hidden & -hidden;
+                    for (int cell : unit) {
+                        if (board[cell] == 0 && (candidates[cell] & bit) != 0) {
+                            bestIndex = indexOfEmpty(cell, depth);
+                            bestCandidates = bit;
+                            break;
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+
+        int cell = emptyCells[bestIndex];
+        emptyCells[bestIndex] = emptyCells[depth];
+        emptyCells[depth] = cell;
+
+        while (bestCandidates != 0 && solutionCount < solutionLimit) {
+            long bit = bestCandidates & -bestCandidates;
+            bestCandidates ^= bit;
+
+            board[cell] = (byte) (Long.numberOfTrailingZeros(bit) + 1);
+            place(cell, bit);
+            search(depth + 1);
+            remove(cell, bit);
+        }
+        board[cell] = 0;
+    }
+
+    // Counts the node and polls the control every CHECK_INTERVAL nodes; true once the search must stop
+    private boolean countNode(int depth) {
+        nodes++;
+        if (!cancelled && (nodes & (SolveControl.CHECK_INTERVAL - 1)) == 0) {
+            cancelled = control.poll(nodes, depth);
+        }
+        return cancelled;
+    }
+
+    private int indexOfEmpty(int cell, int from) {
+        int i = from;
+        while (emptyCells[i] != cell) {
+            i++;
+        }
+        return i;
+    }
+
+    private long candidatesOf(int cell) {
+        return ~(rowUsed[rowOf[cell]] | colUsed[colOf[cell]] | boxUsed[boxOf[cell]]) & allDigits;
+    }
+
+    private void place(int cell, long bit) {
+        rowUsed[rowOf[cell]] |= bit;
+        colUsed[colOf[cell]] |= bit;
+        boxUsed[boxOf[cell]] |= bit;
+    }
+
+    private void remove(int cell, long bit) {
+        rowUsed[rowOf[cell]] &= ~bit;
+        colUsed[colOf[cell]] &= ~bit;
+        boxUsed[boxOf[cell]] &= ~bit;
+    }
+}
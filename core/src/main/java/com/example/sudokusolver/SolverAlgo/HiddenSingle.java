@@ -0,0 +1,45 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// A digit that fits in only one cell of a row, column or box must go there
+public class HiddenSingle implements Technique {
+
+    @Override
+    public String getName() {
+        return "Hidden single";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return Difficulty.EASY;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        for (int[] unit : CandidateGrid.UNITS) {
+            int once = 0;
+            int twice = 0;
+            for (int cell : unit) {
+                int candidates = grid.getCandidates(cell);
+                twice |= once & candidates;
+                once |= candidates;
+            }
+            int hidden = once & ~twice;
+            while (hidden != 0) {
+                int bit = hidden & -hidden;
+                hidden ^= bit;
+                for (int cell : unit) {
+                    // An earlier placement in this loop may already have removed the digit
+                    if ((grid.getCandidates(cell) & bit) != 0) {
+                        grid.place(cell, Integer.numberOfTrailingZeros(bit) + 1);
+                        progress = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// Hidden pairs/triples: n digits of a unit that only fit in the same n cells. Those cells must take
+// those digits, so every other candidate is removed from them.
+public class HiddenSubset implements Technique {
+
+    private final int size;
+
+    public HiddenSubset(int size) {
+        if (size < 2 || size > 4) {
+            throw new IllegalArgumentException("Subset size must be between 2 and 4.");
+        }
+        this.size = size;
+    }
+
+    @Override
+    public String getName() {
+        return size == 2 ? "Hidden pair" : size == 3 ? "Hidden triple" : "Hidden quad";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return size == 2 ? Difficulty.MEDIUM : Difficulty.HARD;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        // positions[d]: mask of unit indices where digit d + 1 is still a candidate
+        int[] positions = new int[CandidateGrid.SIZE];
+        for (int[] unit : CandidateGrid.UNITS) {
+            for (int digit = 0; digit < CandidateGrid.SIZE; digit++) {
+                positions[digit] = 0;
+                for (int i = 0; i < unit.length; i++) {
+                    if ((grid.getCandidates(unit[i]) & (1 << digit)) != 0) {
+                        positions[digit] |= 1 << i;
+                    }
+                }
+            }
+            progress |= search(grid, unit, positions, 0, 0, 0, 0);
+        }
+        return progress;
+    }
+
+    private boolean search(CandidateGrid grid, int[] unit, int[] positions,
+                           int start, int chosen, int digits, int cellMask) {
+        if (Integer.bitCount(cellMask) > size) {
+            return false;
+        }
+        if (chosen == size) {
+            boolean progress = false;
+            for (int i = 0; i < unit.length; i++) {
+                if ((cellMask & (1 << i)) != 0) {
+                    progress |= grid.eliminate(unit[i], ~digits & CandidateGrid.ALL_DIGITS);
+                }
+            }
+            return progress;
+        }
+        boolean progress = false;
+        for (int digit = start; digit < CandidateGrid.SIZE; digit++) {
+            int count = Integer.bitCount(positions[digit]);
+            if (count >= 2 && count <= size) {
+                progress |= search(grid, unit, positions, digit + 1, chosen + 1,
+                        digits | (1 << digit), cellMask | positions[digit]);
+            }
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Live assistance while a 9x9 grid is being filled in. Edits are applied one cell at a time and
+// only touch that cell's units, so candidate queries are a few mask reads. The logical deduction
+// and the reference solution behind hints are computed on demand and then kept across edits for as
+// long as the edits agree with them; typing the hinted digits never causes a re-solve.
+public class HintEngine {
+
+    public static class Hint {
+        private final int cell;
+        private final int digit;
+        private final String technique;
+        private final boolean correction;
+
+        Hint(int cell, int digit, String technique, boolean correction) {
+            this.cell = cell;
+            this.digit = digit;
+            this.technique = technique;
+            this.correction = correction;
+        }
+
+        // Row-major index of the cell to fill or fix
+        public int getCell() {
+            return cell;
+        }
+
+        public int getDigit() {
+            return digit;
+        }
+
+        // Hardest technique needed to reach this step; null when it could only be read off the
+        // solution, i.e. a person would have to guess here
+        public String getTechnique() {
+            return technique;
+        }
+
+        // True when the cell already holds a digit that contradicts the solution and 'digit'
+        // replaces it
+        public boolean isCorrection() {
+            return correction;
+        }
+    }
+
+    private static final int SIZE = CandidateGrid.SIZE;
+    private static final int CELLS = CandidateGrid.CELLS;
+    // A board typed in by hand can be pathological; hints are not worth a long stall
+    private static final long SOLVE_TIMEOUT_MS = 200;
+
+    private final List<Technique> techniques;
+    private final SudokuSolver solver = new SudokuSolver();
+
+    private final byte[] values = new byte[CELLS];
+    // Cells loaded as the puzzle rather than entered; an edited given becomes an entry
+    private final boolean[] givens = new boolean[CELLS];
+    private int givenCount;
+    // counts[unit * 9 + digit - 1]: how often the digit occurs in the unit; used[unit] has bit
+    // digit - 1 set while that count is non-zero
+    private final int[] counts = new int[3 * SIZE * SIZE];
+    private final int[] used = new int[3 * SIZE];
+
+    // Some solution of the current board, valid while 'solutionCurrent' is set. If the board has
+    // no solution it falls back to a solution of the givens alone ('solutionOfGivens').
+    private final byte[] solution = new byte[CELLS];
+    private final byte[] scratch = new byte[CELLS];
+    private boolean solutionCurrent;
+    private boolean solutionOfGivens;
+    private boolean hasSolution;
+
+    // Fixpoint of the technique pipeline from the current board, and the cells it filled in the
+    // order they were found, each with the hardest technique used on the way to it
+    private final CandidateGrid deduced = new CandidateGrid();
+    private final int[] steps = new int[CELLS];
+    private final int[] stepTechniques = new int[CELLS];
+    private int stepCount;
+    private boolean deducedCurrent;
+
+    public HintEngine() {
+        this(LogicalSolver.defaultTechniques());
+    }
+
+    // Techniques are tried in the given order, so list the cheapest first
+    public HintEngine(List<Technique> techniques) {
+        this.techniques = new ArrayList<>(techniques);
+        solver.setStrategy(SearchStrategy.ROBUST);
+    }
+
+    // Starts over with a new puzzle; every non-zero cell becomes a given
+    public void load(byte[] cells) {
+        if (cells.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            write(cell, 0);
+            givens[cell] = false;
+        }
+        givenCount = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int digit = cells[cell];
+            checkDigit(digit);
+            if (digit != 0) {
+                write(cell, digit);
+                givens[cell] = true;
+                givenCount++;
+            }
+        }
+        solutionCurrent = false;
+        deducedCurrent = false;
+    }
+
+    // Enters (or with 0 clears) a digit. Cached results survive when the digit agrees with them.
+    public void set(int cell, int digit) {
+        checkDigit(digit);
+        int old = values[cell];
+        if (old == digit) {
+            return;
+        }
+        write(cell, digit);
+        if (givens[cell]) {
+            givens[cell] = false;
+            givenCount--;
+            solutionCurrent = false;
+        }
+        if (digit == 0 || !hasSolution || solutionOfGivens || solution[cell] != digit) {
+            solutionCurrent = false;
+        }
+        if (digit == 0 || deduced.isBroken() || deduced.getValue(cell) != digit) {
+            deducedCurrent = false;
+        }
+    }
+
+    public int getValue(int cell) {
+        return values[cell];
+    }
+
+    public boolean isGiven(int cell) {
+        return givens[cell];
+    }
+
+    // Digits not yet used by any peer (bit d - 1 for digit d); 0 for a filled cell
+    public int getCandidates(int cell) {
+        if (values[cell] != 0) {
+            return 0;
+        }
+        int[] units = CandidateGrid.UNITS_OF[cell];
+        return CandidateGrid.ALL_DIGITS & ~(used[units[0]] | used[units[1]] | used[units[2]]);
+    }
+
+    // False when the cell's digit cannot be part of a solution: it contradicts the solution of the
+    // givens, or repeats in a unit when even that is unknown. Empty cells are never wrong.
+    public boolean isCorrect(int cell) {
+        int digit = values[cell];
+        if (digit == 0) {
+            return true;
+        }
+        ensureSolution();
+        if (hasSolution) {
+            return solution[cell] == digit;
+        }
+        for (int unit : CandidateGrid.UNITS_OF[cell]) {
+            if (counts[unit * SIZE + digit - 1] > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The next cell a person could fill: first any wrong entry, then the earliest logical
+    // deduction, then if logic stalls the most constrained cell from the solution. Null once the
+    // board is complete, or when it cannot be solved at all.
+    public Hint nextStep() {
+        ensureSolution();
+        if (hasSolution && solutionOfGivens) {
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (values[cell] != 0 && values[cell] != solution[cell]) {
+                    return new Hint(cell, solution[cell], null, true);
+                }
+            }
+        }
+        ensureDeduced();
+        for (int i = 0; i < stepCount; i++) {
+            int cell = steps[i];
+            if (values[cell] == 0) {
+                return new Hint(cell, deduced.getValue(cell), techniques.get(stepTechniques[i]).getName(), false);
+            }
+        }
+        if (!hasSolution) {
+            return null;
+        }
+        int best = -1;
+        int bestCount = SIZE + 1;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (values[cell] == 0) {
+                int count = Integer.bitCount(getCandidates(cell));
+                if (count < bestCount) {
+                    best = cell;
+                    bestCount = count;
+                }
+            }
+        }
+        return best < 0 ? null : new Hint(best, solution[best], null, false);
+    }
+
+    private void write(int cell, int digit) {
+        int old = values[cell];
+        if (old != 0) {
+            for (int unit : CandidateGrid.UNITS_OF[cell]) {
+                if (--counts[unit * SIZE + old - 1] == 0) {
+                    used[unit] &= ~(1 << (old - 1));
+                }
+            }
+        }
+        values[cell] = (byte) digit;
+        if (digit != 0) {
+            for (int unit : CandidateGrid.UNITS_OF[cell]) {
+                counts[unit * SIZE + digit - 1]++;
+                used[unit] |= 1 << (digit - 1);
+            }
+        }
+    }
+
+    // Solves the board as it stands, or failing that the givens alone
+    private void ensureSolution() {
+        if (solutionCurrent) {
+            return;
+        }
+        solutionOfGivens = false;
+        hasSolution = solve(values);
+        if (!hasSolution && givenCount > 0) {
+            for (int cell = 0; cell < CELLS; cell++) {
+                scratch[cell] = givens[cell] ? values[cell] : 0;
+            }
+            hasSolution = solve(scratch);
+            solutionOfGivens = hasSolution;
+        }
+        solutionCurrent = true;
+    }
+
+    private boolean solve(byte[] board) {
+        SolveControl control = new SolveControl(SOLVE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        return solver.solve(board, solution, control) > 0;
+    }
+
+    // Runs the pipeline like LogicalSolver.deduce, logging each placement as it happens
+    private void ensureDeduced() {
+        if (deducedCurrent) {
+            return;
+        }
+        stepCount = 0;
+        deducedCurrent = true;
+        if (!deduced.load(values)) {
+            return;
+        }
+        int hardest = 0;
+        int i = 0;
+        while (i < techniques.size() && !deduced.isSolved() && !deduced.isBroken()) {
+            deduced.copyValuesTo(scratch);
+            if (!techniques.get(i).apply(deduced)) {
+                i++;
+                continue;
+            }
+            hardest = Math.max(hardest, i);
+            boolean placed = false;
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (scratch[cell] == 0 && deduced.getValue(cell) != 0) {
+                    steps[stepCount] = cell;
+                    stepTechniques[stepCount++] = hardest;
+                    placed = true;
+                }
+            }
+            if (placed) {
+                hardest = 0;
+            }
+            i = 0;
+        }
+        if (deduced.isBroken()) {
+            // Placements from a contradiction are not worth suggesting
+            stepCount = 0;
+        }
+    }
+
+    private static void checkDigit(int digit) {
+        if (digit < 0 || digit > SIZE) {
+            throw new IllegalArgumentException("Digit must be between 0 and " + SIZE + ".");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.sudokusolver.SolverAlgo;
+
+// Tracks rule violations while a grid is being edited. Each edit touches only the cell's three
+// units and the peers holding the old or new digit, so conflicts are known immediately and
+// isValid() is a field read rather than a pass over the board.
+public class IncrementalValidator {
+
+    public interface Listener {
+        // Called whenever a cell starts or stops sharing a unit with the same digit
+        void onConflictChanged(int cell, boolean conflicting);
+    }
+
+    private static final int SIZE = CandidateGrid.SIZE;
+    private static final int CELLS = CandidateGrid.CELLS;
+
+    private final byte[] values = new byte[CELLS];
+    // counts[unit * 9 + digit - 1]: how often the digit occurs in the unit
+    private final int[] counts = new int[3 * SIZE * SIZE];
+    private final boolean[] conflicting = new boolean[CELLS];
+    // Number of (unit, digit) pairs occurring more than once
+    private int duplicates;
+    private Listener listener;
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void load(byte[] cells) {
+        if (cells.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            set(cell, cells[cell]);
+        }
+    }
+
+    // Changes one cell (0 clears it) and refreshes the conflict state of every affected cell
+    public void set(int cell, int digit) {
+        if (digit < 0 || digit > SIZE) {
+            throw new IllegalArgumentException("Digit must be between 0 and " + SIZE + ".");
+        }
+        int old = values[cell];
+        if (old == digit) {
+            return;
+        }
+        if (old != 0) {
+            for (int unit : CandidateGrid.UNITS_OF[cell]) {
+                if (--counts[unit * SIZE + old - 1] == 1) {
+                    duplicates--;
+                }
+            }
+        }
+        values[cell] = (byte) digit;
+        if (digit != 0) {
+            for (int unit : CandidateGrid.UNITS_OF[cell]) {
+                if (++counts[unit * SIZE + digit - 1] == 2) {
+                    duplicates++;
+                }
+            }
+        }
+
+        refresh(cell);
+        for (int peer : CandidateGrid.PEERS[cell]) {
+            int value = values[peer];
+            if (value != 0 && (value == old || value == digit)) {
+                refresh(peer);
+            }
+        }
+    }
+
+    public int getValue(int cell) {
+        return values[cell];
+    }
+
+    public boolean isConflicting(int cell) {
+        return conflicting[cell];
+    }
+
+    // True when no digit repeats in any row, column or box
+    public boolean isValid() {
+        return duplicates == 0;
+    }
+
+    private void refresh(int cell) {
+        int value = values[cell];
+        boolean now = false;
+        if (value != 0) {
+            for (int unit : CandidateGrid.UNITS_OF[cell]) {
+                if (counts[unit * SIZE + value - 1] > 1) {
+                    now = true;
+                    break;
+                }
+            }
+        }
+        if (now != conflicting[cell]) {
+            conflicting[cell] = now;
+            if (listener != null) {
+                listener.onConflictChanged(cell, now);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// Pointing: a digit confined to one row or column inside a box is removed from the rest of that
+// line. Claiming: a digit confined to one box inside a row or column is removed from the rest of
+// that box.
+public class LockedCandidates implements Technique {
+
+    @Override
+    public String getName() {
+        return "Locked candidates";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return Difficulty.MEDIUM;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        for (int box = 2 * CandidateGrid.SIZE; box < 3 * CandidateGrid.SIZE; box++) {
+            for (int line = 0; line < 2 * CandidateGrid.SIZE; line++) {
+                // Every box meets three rows and three columns; skip lines that miss it
+                if (intersects(box, line)) {
+                    progress |= lock(grid, box, line) | lock(grid, line, box);
+                }
+            }
+        }
+        return progress;
+    }
+
+    private static boolean intersects(int unitA, int unitB) {
+        for (int cell : CandidateGrid.UNITS[unitA]) {
+            int[] units = CandidateGrid.UNITS_OF[cell];
+            if (units[0] == unitB || units[1] == unitB || units[2] == unitB) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Digits whose candidates in 'source' all lie in 'target' are removed from the rest of 'target'
+    private static boolean lock(CandidateGrid grid, int source, int target) {
+        int inside = 0;
+        int outside = 0;
+        for (int cell : CandidateGrid.UNITS[source]) {
+            if (contains(target, cell)) {
+                inside |= grid.getCandidates(cell);
+            } else {
+                outside |= grid.getCandidates(cell);
+            }
+        }
+        int locked = inside & ~outside;
+        if (locked == 0) {
+            return false;
+        }
+        boolean progress = false;
+        for (int cell : CandidateGrid.UNITS[target]) {
+            if (!contains(source, cell) && grid.getValue(cell) == 0) {
+                progress |= grid.eliminate(cell, locked);
+            }
+        }
+        return progress;
+    }
+
+    private static boolean contains(int unit, int cell) {
+        int[] units = CandidateGrid.UNITS_OF[cell];
+        return units[0] == unit || units[1] == unit || units[2] == unit;
+    }
+}
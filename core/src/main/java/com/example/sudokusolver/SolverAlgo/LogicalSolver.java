@@ -0,0 +1,144 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Solves the way a person would: runs the technique pipeline to a fixpoint and only hands what is
+// left to SudokuSolver's backtracking. Most published puzzles finish without a single guess.
+public class LogicalSolver {
+
+    public static class Report {
+        private final int result;
+        private final boolean guessed;
+        private final Map<String, Integer> techniques;
+        private final Difficulty difficulty;
+
+        Report(int result, boolean guessed, Map<String, Integer> techniques, Difficulty difficulty) {
+            this.result = result;
+            this.guessed = guessed;
+            this.techniques = techniques;
+            this.difficulty = difficulty;
+        }
+
+        // SudokuSolver.INVALID, NO_SOLUTION, UNIQUE or MULTIPLE
+        public int getResult() {
+            return result;
+        }
+
+        // True when logic alone stalled and the backtracking search had to finish the grid
+        public boolean isGuessed() {
+            return guessed;
+        }
+
+        // How many rounds each technique made progress, in pipeline order; unused ones are absent
+        public Map<String, Integer> getTechniques() {
+            return techniques;
+        }
+
+        // Hardest technique needed, EXPERT if a guess was needed; null when the grid has no solution
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+    }
+
+    private final List<Technique> techniques;
+    private final int[] usage;
+    private final CandidateGrid grid = new CandidateGrid();
+    private final SudokuSolver fallback = new SudokuSolver();
+    private final byte[] remaining = new byte[CandidateGrid.CELLS];
+
+    public LogicalSolver() {
+        this(defaultTechniques());
+    }
+
+    // Techniques are tried in the given order, so list the cheapest first
+    public LogicalSolver(List<Technique> techniques) {
+        this.techniques = new ArrayList<>(techniques);
+        this.usage = new int[techniques.size()];
+    }
+
+    public static List<Technique> defaultTechniques() {
+        return Arrays.asList(
+                new NakedSingle(),
+                new HiddenSingle(),
+                new LockedCandidates(),
+                new NakedSubset(2),
+                new HiddenSubset(2),
+                new NakedSubset(3),
+                new HiddenSubset(3),
+                new Fish(2),
+                new Fish(3));
+    }
+
+    public Report solveSudoku(SudokuGrid model) {
+        byte[] cells = model.getCells();
+        return solve(cells, cells);
+    }
+
+    // Same contract as SudokuSolver.solve(byte[], byte[]), plus the techniques that fired
+    public Report solve(byte[] in, byte[] out) {
+        Arrays.fill(usage, 0);
+        if (!grid.load(in)) {
+            return new Report(SudokuSolver.INVALID, false, Collections.emptyMap(), null);
+        }
+
+        deduce(grid);
+
+        if (grid.isBroken()) {
+            return new Report(SudokuSolver.NO_SOLUTION, false, usage(), null);
+        }
+        if (grid.isSolved()) {
+            // Every step was forced, so the solution is unique
+            grid.copyValuesTo(out);
+            return new Report(SudokuSolver.UNIQUE, false, usage(), hardestUsed());
+        }
+
+        grid.copyValuesTo(remaining);
+        int result = fallback.solve(remaining, out);
+        if (result <= 0) {
+            return new Report(SudokuSolver.NO_SOLUTION, true, usage(), null);
+        }
+        return new Report(result, true, usage(), Difficulty.EXPERT);
+    }
+
+    // Applies techniques until none makes progress, restarting from the simplest after each hit
+    void deduce(CandidateGrid target) {
+        int i = 0;
+        while (i < techniques.size() && !target.isSolved() && !target.isBroken()) {
+            if (techniques.get(i).apply(target)) {
+                usage[i]++;
+                i = 0;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private Difficulty hardestUsed() {
+        Difficulty hardest = Difficulty.EASY;
+        for (int i = 0; i < usage.length; i++) {
+            Difficulty difficulty = techniques.get(i).getDifficulty();
+            if (usage[i] > 0 && difficulty.compareTo(hardest) > 0) {
+                hardest = difficulty;
+            }
+        }
+        return hardest;
+    }
+
+    private Map<String, Integer> usage() {
+        Map<String, Integer> fired = new LinkedHashMap<>();
+        for (int i = 0; i < usage.length; i++) {
+            if (usage[i] > 0) {
+                fired.merge(techniques.get(i).getName(), usage[i], Integer::sum);
+            }
+        }
+        return fired;
+    }
+}
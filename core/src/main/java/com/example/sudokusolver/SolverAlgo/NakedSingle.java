@@ -0,0 +1,30 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// A cell with a single candidate left must hold that digit
+public class NakedSingle implements Technique {
+
+    @Override
+    public String getName() {
+        return "Naked single";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return Difficulty.EASY;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        for (int cell = 0; cell < CandidateGrid.CELLS; cell++) {
+            int candidates = grid.getCandidates(cell);
+            if (grid.getValue(cell) == 0 && Integer.bitCount(candidates) == 1) {
+                grid.place(cell, Integer.numberOfTrailingZeros(candidates) + 1);
+                progress = true;
+            }
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// Naked pairs/triples: n cells of a unit whose candidates together are exactly n digits. Those
+// digits must fill those cells, so they are removed from the rest of the unit.
+public class NakedSubset implements Technique {
+
+    private final int size;
+
+    public NakedSubset(int size) {
+        if (size < 2 || size > 4) {
+            throw new IllegalArgumentException("Subset size must be between 2 and 4.");
+        }
+        this.size = size;
+    }
+
+    @Override
+    public String getName() {
+        return size == 2 ? "Naked pair" : size == 3 ? "Naked triple" : "Naked quad";
+    }
+
+    @Override
+    public Difficulty getDifficulty() {
+        return size == 2 ? Difficulty.MEDIUM : Difficulty.HARD;
+    }
+
+    @Override
+    public boolean apply(CandidateGrid grid) {
+        boolean progress = false;
+        int[] open = new int[CandidateGrid.SIZE];
+        for (int[] unit : CandidateGrid.UNITS) {
+            int openCount = 0;
+            for (int cell : unit) {
+                int count = Integer.bitCount(grid.getCandidates(cell));
+                if (count >= 2 && count <= size) {
+                    open[openCount++] = cell;
+                }
+            }
+            if (openCount >= size) {
+                progress |= search(grid, unit, open, openCount, 0, 0, 0, 0);
+            }
+        }
+        return progress;
+    }
+
+    // Tries every combination of 'size' open cells, tracking the chosen cells as a position mask
+    private boolean search(CandidateGrid grid, int[] unit, int[] open, int openCount,
+                           int start, int chosen, int cellMask, int digits) {
+        if (Integer.bitCount(digits) > size) {
+            return false;
+        }
+        if (chosen == size) {
+            boolean progress = false;
+            for (int cell : unit) {
+                if ((cellMask & (1 << indexIn(unit, cell))) == 0 && grid.getValue(cell) == 0) {
+                    progress |= grid.eliminate(cell, digits);
+                }
+            }
+            return progress;
+        }
+        boolean progress = false;
+        for (int i = start; i < openCount; i++) {
+            int cell = open[i];
+            progress |= search(grid, unit, open, openCount, i + 1, chosen + 1,
+                    cellMask | (1 << indexIn(unit, cell)), digits | grid.getCandidates(cell));
+        }
+        return progress;
+    }
+
+    private static int indexIn(int[] unit, int cell) {
+        for (int i = 0; i < unit.length; i++) {
+            if (unit[i] == cell) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
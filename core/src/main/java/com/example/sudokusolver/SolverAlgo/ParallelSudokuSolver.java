@@ -0,0 +1,180 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Splits the search tree of a single puzzle across a ForkJoinPool. The first few branch points are
+// expanded into subtasks, each subtree below them is searched by a per-thread SudokuSolver, and a
+// shared solution counter stops every task once the limit (2 for solving) is reached.
+public class ParallelSudokuSolver {
+
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int ALL_DIGITS = (1 << SIZE) - 1;
+
+    private final ForkJoinPool pool;
+    // Branch points expanded into tasks before falling back to sequential search
+    private final int splitDepth;
+    private final ThreadLocal<SudokuSolver> solvers = ThreadLocal.withInitial(SudokuSolver::new);
+
+    public ParallelSudokuSolver() {
+        this(ForkJoinPool.commonPool(), 3);
+    }
+
+    public ParallelSudokuSolver(ForkJoinPool pool, int splitDepth) {
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+    }
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        return solveSudoku(model, null);
+    }
+
+    // Throws CancellationException once 'control' is cancelled or its deadline passes
+    public boolean solveSudoku(SudokuGrid model, SolveControl control)
+            throws IllegalArgumentException, CancellationException {
+        byte[] cells = model.getCells();
+        int result = solve(cells, cells, control);
+
+        if (result == SudokuSolver.CANCELLED) {
+            throw new CancellationException("Solving was cancelled or timed out.");
+        }
+        if (result == SudokuSolver.INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == SudokuSolver.NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == SudokuSolver.MULTIPLE;
+    }
+
+    // Same contract and result codes as SudokuSolver.solve(byte[], byte[])
+    public int solve(byte[] in, byte[] out) {
+        return solve(in, out, null);
+    }
+
+    // The control is shared by every subtree task, so its progress listener must be thread-safe
+    public int solve(byte[] in, byte[] out, SolveControl control) {
+        if (out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        return run(in, out, 2, control);
+    }
+
+    // Number of solutions, stopping as soon as 'limit' is reached, or SudokuSolver.INVALID
+    public int countSolutions(byte[] in, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return run(in, null, limit, null);
+    }
+
+    private int run(byte[] in, byte[] out, int limit, SolveControl control) {
+        if (!solvers.get().isValidGrid(in)) {
+            return SudokuSolver.INVALID;
+        }
+        if (control != null && control.stopIfCancelled()) {
+            return SudokuSolver.CANCELLED;
+        }
+        AtomicInteger found = new AtomicInteger();
+        // Tasks write the first solution into a private buffer so 'in' stays readable if out == in
+        byte[] first = out != null ? new byte[CELLS] : null;
+        pool.invoke(new SubtreeTask(in.clone(), 0, first, found, limit, control));
+        if (control != null && control.isStopped()) {
+            return SudokuSolver.CANCELLED;
+        }
+
+        int count = Math.min(found.get(), limit);
+        if (count > 0 && out != null) {
+            System.arraycopy(first, 0, out, 0, CELLS);
+        }
+        return count;
+    }
+
+    private class SubtreeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] board;
+        private final int depth;
+        private final byte[] out;
+        private final AtomicInteger found;
+        private final int limit;
+        private final SolveControl control;
+
+        SubtreeTask(byte[] board, int depth, byte[] out, AtomicInteger found, int limit,
+                    SolveControl control) {
+            this.board = board;
+            this.depth = depth;
+            this.out = out;
+            this.found = found;
+            this.limit = limit;
+            this.control = control;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get() >= limit || (control != null && control.stopIfCancelled())) {
+                return;
+            }
+            if (depth >= splitDepth) {
+                solvers.get().searchShared(board, out, found, limit, control);
+                return;
+            }
+
+            int[] rowUsed = new int[SIZE];
+            int[] colUsed = new int[SIZE];
+            int[] boxUsed = new int[SIZE];
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (board[cell] != 0) {
+                    int bit = 1 << (board[cell] - 1);
+                    rowUsed[cell / SIZE] |= bit;
+                    colUsed[cell % SIZE] |= bit;
+                    boxUsed[boxOf(cell)] |= bit;
+                }
+            }
+
+            // Branch on the empty cell with the fewest candidates
+            int bestCell = -1;
+            int bestCandidates = 0;
+            int bestCount = SIZE + 1;
+            for (int cell = 0; cell < CELLS && bestCount > 1; cell++) {
+                if (board[cell] != 0) {
+                    continue;
+                }
+                int candidates = ~(rowUsed[cell / SIZE] | colUsed[cell % SIZE] | boxUsed[boxOf(cell)]) & ALL_DIGITS;
+                int count = Integer.bitCount(candidates);
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestCandidates = candidates;
+                    bestCount = count;
+                }
+            }
+            if (bestCell < 0 || bestCount <= 1) {
+                // Full or forced: not worth a split here
+                solvers.get().searchShared(board, out, found, limit, control);
+                return;
+            }
+
+            List<SubtreeTask> children = new ArrayList<>(bestCount);
+            while (bestCandidates != 0) {
+                int bit = bestCandidates & -bestCandidates;
+                bestCandidates ^= bit;
+                byte[] child = board.clone();
+                child[bestCell] = (byte) (Integer.numberOfTrailingZeros(bit) + 1);
+                children.add(new SubtreeTask(child, depth + 1, out, found, limit, control));
+            }
+            invokeAll(children);
+        }
+    }
+
+    private static int boxOf(int cell) {
+        return (cell / SIZE / 3) * 3 + cell % SIZE / 3;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+import java.util.SplittableRandom;
+
+// Generates puzzles with exactly one solution. A random full board is built, then clues are
+// removed in random order (in symmetric groups if asked) as long as countSolutions(puzzle, 2) stays
+// at 1 and the logical grade does not exceed the target. The same seed always yields the same
+// sequence of puzzles. Not thread-safe; use one generator per thread.
+public class PuzzleGenerator {
+
+    public enum Symmetry {
+        NONE,
+        // 180 degree rotation about the centre cell
+        ROTATIONAL,
+        // Left-right mirror image
+        MIRROR
+    }
+
+    public static class Puzzle {
+        private final byte[] givens;
+        private final byte[] solution;
+        private final Difficulty difficulty;
+
+        Puzzle(byte[] givens, byte[] solution, Difficulty difficulty) {
+            this.givens = givens;
+            this.solution = solution;
+            this.difficulty = difficulty;
+        }
+
+        public byte[] getGivens() {
+            return givens;
+        }
+
+        public byte[] getSolution() {
+            return solution;
+        }
+
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+    }
+
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+    // Fresh boards tried before settling for the closest grade found
+    private static final int MAX_ATTEMPTS = 50;
+
+    private final SplittableRandom random;
+    private final SudokuSolver solver = new SudokuSolver();
+    private final LogicalSolver grader = new LogicalSolver();
+    private final byte[] scratch = new byte[CELLS];
+    private final int[] order = new int[CELLS];
+
+    public PuzzleGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    // Any grade; removal stops once no further clue can go
+    public Puzzle generate(Symmetry symmetry) {
+        return generate(symmetry, null);
+    }
+
+    // Returns a puzzle of the target grade, or the closest one found within MAX_ATTEMPTS boards
+    public Puzzle generate(Symmetry symmetry, Difficulty target) {
+        Puzzle best = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            byte[] solution = fullBoard();
+            byte[] givens = removeClues(solution, symmetry, target);
+            Puzzle puzzle = new Puzzle(givens, solution, grade(givens));
+            if (target == null || puzzle.getDifficulty() == target) {
+                return puzzle;
+            }
+            if (best == null || distance(puzzle, target) < distance(best, target)) {
+                best = puzzle;
+            }
+        }
+        return best;
+    }
+
+    private static int distance(Puzzle puzzle, Difficulty target) {
+        return Math.abs(puzzle.getDifficulty().ordinal() - target.ordinal());
+    }
+
+    private Difficulty grade(byte[] givens) {
+        return grader.solve(givens, scratch).getDifficulty();
+    }
+
+    // The three diagonal boxes share no unit, so any digits work there; the solver fills the rest.
+    // Relabelling and line shuffles then spread that randomness over the whole board.
+    private byte[] fullBoard() {
+        byte[] board = new byte[CELLS];
+        int[] digits = new int[SIZE];
+        for (int box = 0; box < 3; box++) {
+            permutation(digits, 1);
+            for (int i = 0; i < SIZE; i++) {
+                board[(box * 3 + i / 3) * SIZE + box * 3 + i % 3] = (byte) digits[i];
+            }
+        }
+        solver.solve(board, board);
+
+        int[] relabel = new int[SIZE + 1];
+        permutation(digits, 1);
+        for (int i = 0; i < SIZE; i++) {
+            relabel[i + 1] = digits[i];
+        }
+        int[] rows = lineOrder();
+        int[] cols = lineOrder();
+        byte[] shuffled = new byte[CELLS];
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                shuffled[r * SIZE + c] = (byte) relabel[board[rows[r] * SIZE + cols[c]]];
+            }
+        }
+        return shuffled;
+    }
+
+    // Random band order with a random line order inside each band
+    private int[] lineOrder() {
+        int[] bands = new int[3];
+        int[] lines = new int[3];
+        int[] order = new int[SIZE];
+        permutation(bands, 0);
+        for (int b = 0; b < 3; b++) {
+            permutation(lines, 0);
+            for (int i = 0; i < 3; i++) {
+                order[b * 3 + i] = bands[b] * 3 + lines[i];
+            }
+        }
+        return order;
+    }
+
+    private byte[] removeClues(byte[] solution, Symmetry symmetry, Difficulty target) {
+        byte[] puzzle = solution.clone();
+        // Every puzzle grades at most EXPERT, so only lower targets need grading during removal
+        boolean capGrade = target != null && target != Difficulty.EXPERT;
+        permutation(order, 0);
+        for (int cell : order) {
+            int partner = partner(cell, symmetry);
+            if (puzzle[cell] == 0) {
+                continue;
+            }
+            puzzle[cell] = 0;
+            puzzle[partner] = 0;
+            boolean keep = solver.countSolutions(puzzle, 2) == 1
+                    && (!capGrade || grade(puzzle).compareTo(target) <= 0);
+            if (!keep) {
+                puzzle[cell] = solution[cell];
+                puzzle[partner] = solution[partner];
+            }
+        }
+        return puzzle;
+    }
+
+    private static int partner(int cell, Symmetry symmetry) {
+        switch (symmetry) {
+            case ROTATIONAL:
+                return CELLS - 1 - cell;
+            case MIRROR:
+                return (cell / SIZE) * SIZE + SIZE - 1 - cell % SIZE;
+            default:
+                return cell;
+        }
+    }
+
+    // Fills 'values' with a random permutation of first, first + 1, ...
+    private void permutation(int[] values, int first) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = first + i;
+        }
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+}
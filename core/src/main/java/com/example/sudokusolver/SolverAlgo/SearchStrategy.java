@@ -0,0 +1,73 @@
+package com.example.sudokusolver.SolverAlgo;
+
+// Branching policy for SudokuSolver's backtracking search. The solver always branches on a cell
+// with the fewest candidates (after hidden singles); the options here decide ties and the order
+// in which digits are tried, and whether the search restarts when a run takes too long.
+//
+// With restarts, each run is an ordinary complete search cut off after a node budget; a run that
+// hits its budget is thrown away and the next one starts with the budget multiplied by
+// 'budgetGrowth' and different random tie-breaks. The run that finishes decides the result, so
+// solution counts stay exact, while a puzzle that is only hard for one particular ordering (such
+// as grids crafted against digit-order 1-9 search) is usually escaped after a few cheap runs.
+public final class SearchStrategy {
+
+    // Row-major ties and digits in 1-9 order, no restarts: the fastest on ordinary puzzles
+    public static final SearchStrategy PLAIN = new SearchStrategy(false, false, 0, 1, 0);
+
+    // For untrusted input: bounded tail latency at a small cost on typical puzzles
+    public static final SearchStrategy ROBUST = new SearchStrategy(true, true, 4096, 2, 0x5DEECE66DL);
+
+    private final boolean degreeTieBreak;
+    private final boolean leastConstrainingValue;
+    private final long initialBudget;
+    private final int budgetGrowth;
+    private final long seed;
+
+    // 'degreeTieBreak': among equally constrained cells, prefer the one with the most empty peers.
+    // 'leastConstrainingValue': try first the digits that remove the fewest peer candidates.
+    // 'initialBudget': nodes allowed in the first run, 0 for a single run without restarts.
+    // 'budgetGrowth': factor applied to the budget after each restart; at least 1, and at least 2
+    // with restarts.
+    // 'seed': start of the random tie-breaks, so a given puzzle always takes the same path.
+    public SearchStrategy(boolean degreeTieBreak, boolean leastConstrainingValue,
+                          long initialBudget, int budgetGrowth, long seed) {
+        if (initialBudget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative.");
+        }
+        if (budgetGrowth < 1) {
+            throw new IllegalArgumentException("Budget growth must be at least 1.");
+        }
+        if (initialBudget > 0 && budgetGrowth < 2) {
+            throw new IllegalArgumentException("Budget growth must be at least 2 with restarts.");
+        }
+        this.degreeTieBreak = degreeTieBreak;
+        this.leastConstrainingValue = leastConstrainingValue;
+        this.initialBudget = initialBudget;
+        this.budgetGrowth = budgetGrowth;
+        this.seed = seed;
+    }
+
+    public boolean isDegreeTieBreak() {
+        return degreeTieBreak;
+    }
+
+    public boolean isLeastConstrainingValue() {
+        return leastConstrainingValue;
+    }
+
+    public boolean isRestarting() {
+        return initialBudget > 0;
+    }
+
+    public long getInitialBudget() {
+        return initialBudget;
+    }
+
+    public int getBudgetGrowth() {
+        return budgetGrowth;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
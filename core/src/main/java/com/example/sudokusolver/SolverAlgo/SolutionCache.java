@@ -0,0 +1,90 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.PackedGrid;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bounded LRU map from canonical puzzles to their solve result. Keys and solutions are stored
+// packed (41 bytes each). Safe to share between threads and CachingSudokuSolver instances.
+public class SolutionCache {
+
+    static final class Cached {
+        final int result;
+        // Packed canonical solution, null unless solved
+        final byte[] solution;
+
+        Cached(int result, byte[] solution) {
+            this.result = result;
+            this.solution = solution;
+        }
+    }
+
+    private static final class Key {
+        private final byte[] packed;
+        private final int hash;
+
+        Key(byte[] packed) {
+            this.packed = packed;
+            this.hash = Arrays.hashCode(packed);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.equals(packed, ((Key) other).packed);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final Map<Key, Cached> entries;
+    private long hits;
+    private long misses;
+
+    public SolutionCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1.");
+        }
+        this.entries = new LinkedHashMap<Key, Cached>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized Cached get(byte[] canonical) {
+        Cached entry = entries.get(new Key(PackedGrid.pack(canonical)));
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return entry;
+    }
+
+    synchronized void put(byte[] canonical, int result, byte[] canonicalSolution) {
+        byte[] solution = canonicalSolution != null ? PackedGrid.pack(canonicalSolution) : null;
+        entries.put(new Key(PackedGrid.pack(canonical)), new Cached(result, solution));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import java.util.concurrent.TimeUnit;
+
+// Cancellation token, optional deadline and progress callback for one solve. The search polls it
+// every CHECK_INTERVAL nodes, so cancel() takes effect within a fraction of a millisecond and a
+// solve without a control pays only a null check per node. Use a fresh instance per solve.
+public class SolveControl {
+
+    public interface ProgressListener {
+        // Called from the solving thread (or threads, under ParallelSudokuSolver) on every poll
+        void onProgress(long nodes, int depth);
+    }
+
+    // Nodes between polls; a power of two so the check is a mask
+    static final int CHECK_INTERVAL = 1 << 12;
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long deadline;
+    private volatile boolean cancelled;
+    // Set once a search has actually been stopped by this control
+    private volatile boolean stopped;
+    private volatile ProgressListener listener;
+
+    public SolveControl() {
+        this.deadline = NO_DEADLINE;
+    }
+
+    // Control whose solve gives up once 'timeout' has elapsed from now
+    public SolveControl(long timeout, TimeUnit unit) {
+        this.deadline = System.nanoTime() + unit.toNanos(timeout);
+    }
+
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    // Safe to call from any thread, before or during the solve
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // True after cancel() or once the deadline has passed
+    public boolean isCancelled() {
+        return cancelled || (deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0);
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    // Reports progress and tells the search whether to stop
+    boolean poll(long nodes, int depth) {
+        ProgressListener current = listener;
+        if (current != null) {
+            current.onProgress(nodes, depth);
+        }
+        return stopIfCancelled();
+    }
+
+    // Marks the solve as stopped when the control has been cancelled or has expired
+    boolean stopIfCancelled() {
+        if (isCancelled()) {
+            stopped = true;
+            return true;
+        }
+        return false;
+    }
+}
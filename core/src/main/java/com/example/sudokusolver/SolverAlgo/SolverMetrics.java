@@ -0,0 +1,137 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Aggregated search statistics, shared by any number of solvers and threads. Attach it with
+// SudokuSolver.setMetrics(); a solver without one only pays a flag check per node. Only the
+// backtracking engine reports here.
+public class SolverMetrics {
+
+    public enum Phase {
+        // SudokuGrid to flat cells (solveSudoku only)
+        CONVERT,
+        // Loading the givens and checking them against the rules
+        VALIDATE,
+        SEARCH,
+        // One solve of the flat cells, validation and search included
+        TOTAL
+    }
+
+    private final Histogram[] phaseNanos = new Histogram[Phase.values().length];
+    private final Histogram nodesPerSolve = new Histogram();
+
+    private final AtomicLong solves = new AtomicLong();
+    private final AtomicLong nodes = new AtomicLong();
+    private final AtomicLong backtracks = new AtomicLong();
+    private final AtomicLong pruned = new AtomicLong();
+    private final AtomicLong maxDepth = new AtomicLong();
+
+    // Givens of the solve that needed the most nodes so far, to find pathological inputs
+    private long worstNodes = -1;
+    private byte[] worstPuzzle;
+
+    public SolverMetrics() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new Histogram();
+        }
+    }
+
+    public Histogram getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public Histogram getNodesPerSolve() {
+        return nodesPerSolve;
+    }
+
+    public long getSolves() {
+        return solves.get();
+    }
+
+    public long getNodes() {
+        return nodes.get();
+    }
+
+    public long getBacktracks() {
+        return backtracks.get();
+    }
+
+    // Candidates skipped at branch points because a hidden single forced the cell
+    public long getPruned() {
+        return pruned.get();
+    }
+
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    public synchronized byte[] getWorstPuzzle() {
+        return worstPuzzle != null ? worstPuzzle.clone() : null;
+    }
+
+    void recordPhase(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()].record(nanos);
+    }
+
+    // Called once per search with that search's counters
+    void recordSearch(byte[] givens, long searchNodes, long searchBacktracks, long searchPruned, int depth) {
+        solves.incrementAndGet();
+        nodes.addAndGet(searchNodes);
+        backtracks.addAndGet(searchBacktracks);
+        pruned.addAndGet(searchPruned);
+        nodesPerSolve.record(searchNodes);
+        long current = maxDepth.get();
+        while (depth > current && !maxDepth.compareAndSet(current, depth)) {
+            current = maxDepth.get();
+        }
+        // Unsynchronized pre-check keeps the lock off the common path
+        if (searchNodes > worstNodes) {
+            synchronized (this) {
+                if (searchNodes > worstNodes) {
+                    worstNodes = searchNodes;
+                    worstPuzzle = givens.clone();
+                }
+            }
+        }
+    }
+
+    public void reset() {
+        for (Histogram histogram : phaseNanos) {
+            histogram.reset();
+        }
+        nodesPerSolve.reset();
+        solves.set(0);
+        nodes.set(0);
+        backtracks.set(0);
+        pruned.set(0);
+        maxDepth.set(0);
+        synchronized (this) {
+            worstNodes = -1;
+            worstPuzzle = null;
+        }
+    }
+
+    // Plain-text report, one metric per line, for logs or a scrape endpoint
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        out.append("solves ").append(getSolves()).append('\n');
+        out.append("nodes ").append(getNodes()).append('\n');
+        out.append("backtracks ").append(getBacktracks()).append('\n');
+        out.append("pruned ").append(getPruned()).append('\n');
+        out.append("max_depth ").append(getMaxDepth()).append('\n');
+        out.append("nodes_per_solve ").append(nodesPerSolve.summary()).append('\n');
+        for (Phase phase : Phase.values()) {
+            out.append(phase.name().toLowerCase()).append("_ns ")
+                    .append(getPhaseNanos(phase).summary()).append('\n');
+        }
+        byte[] worst = getWorstPuzzle();
+        if (worst != null) {
+            out.append("worst_puzzle ");
+            for (byte cell : worst) {
+                out.append(cell == 0 ? '.' : (char) ('0' + cell));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,579 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SudokuSolver {
+
+    public enum Engine {
+        // Bitmask backtracking with MRV; fastest on typical puzzles
+        BACKTRACKING,
+        // Exact cover search; robust on puzzles built to defeat cell-by-cell backtracking
+        DANCING_LINKS
+    }
+
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int ALL_DIGITS = (1 << SIZE) - 1;
+
+    // Unit index of every cell, so the hot loop never divides
+    private static final int[] ROW_OF = new int[CELLS];
+    private static final int[] COL_OF = new int[CELLS];
+    private static final int[] BOX_OF = new int[CELLS];
+    // Cells of the 27 units: rows 0-8, columns 9-17, boxes 18-26
+    private static final int[][] UNITS = new int[3 * SIZE][SIZE];
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int box = (row / 3) * 3 + col / 3;
+            ROW_OF[cell] = row;
+            COL_OF[cell] = col;
+            BOX_OF[cell] = box;
+            UNITS[row][col] = cell;
+            UNITS[SIZE + col][row] = cell;
+            UNITS[2 * SIZE + box][(row % 3) * 3 + col % 3] = cell;
+        }
+    }
+
+    // Result codes of solve(byte[], byte[]); a non-negative result is the solution count, capped at 2
+    public static final int CANCELLED = -2;
+    public static final int INVALID = -1;
+    public static final int NO_SOLUTION = 0;
+    public static final int UNIQUE = 1;
+    public static final int MULTIPLE = 2;
+
+    // Bit (d - 1) is set when digit d is already placed in that unit
+    private final int[] rowUsed = new int[SIZE];
+    private final int[] colUsed = new int[SIZE];
+    private final int[] boxUsed = new int[SIZE];
+
+    private final byte[] board = new byte[CELLS];
+    // Empty cells; the search keeps the ones already filled in front of 'depth'
+    private final int[] emptyCells = new int[CELLS];
+    private int emptyCount;
+    // Candidates of every cell at the current node, zero for filled cells
+    private final int[] candidates = new int[CELLS];
+
+    private byte[] solution;
+    private int solutionCount;
+    private int solutionLimit;
+
+    // Set only for solves given a SolveControl; polled every SolveControl.CHECK_INTERVAL nodes
+    private SolveControl control;
+    private boolean cancelled;
+
+    // Optional statistics sink; the per-search counters below are only kept while 'instrumented'
+    private SolverMetrics metrics;
+    private boolean instrumented;
+    private long nodes;
+    private long backtracks;
+    private long pruned;
+    private int maxDepth;
+
+    // Branching policy. With PLAIN the search takes the first best cell and digits in 1-9 order,
+    // and 'ordered' keeps the tie-break and value-ordering work out of the loop entirely.
+    private SearchStrategy strategy = SearchStrategy.PLAIN;
+    private boolean ordered;
+    // xorshift state for random tie-breaks; 0 when ties are broken by position and digit
+    private long random;
+    // Node count at which the current restarting run gives up; Long.MAX_VALUE when not restarting
+    private long nodeLimit = Long.MAX_VALUE;
+    private boolean exhausted;
+    // Sort scratch for value ordering; the order itself is packed into a local of each frame
+    private final int[] valueKeys = new int[SIZE];
+
+    // Set only while ParallelSudokuSolver runs a subtree: solutions are counted across all its tasks
+    private AtomicInteger sharedCount;
+
+    // Created on first use of Engine.DANCING_LINKS
+    private DancingLinksSolver dancingLinks;
+    // Solver for the last non-9x9 grid seen, reused while the size stays the same
+    private GeneralSudokuSolver general;
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        return solveSudoku(model, Engine.BACKTRACKING);
+    }
+
+    public boolean solveSudoku(SudokuGrid model, Engine engine) throws IllegalArgumentException {
+        if (model.getSize() != SIZE) {
+            return general(model.getBoxSize()).solveSudoku(model);
+        }
+        // The solution is written straight back into the model's cells
+        byte[] cells = cellsOf(model);
+        int result = solve(cells, cells, engine);
+
+        if (result == INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == MULTIPLE;
+    }
+
+    // Like solveSudoku(SudokuGrid), but gives up with a CancellationException once 'control' is
+    // cancelled or its deadline passes; the model may then already hold a solution.
+    public boolean solveSudoku(SudokuGrid model, SolveControl control)
+            throws IllegalArgumentException, CancellationException {
+        if (model.getSize() != SIZE) {
+            return general(model.getBoxSize()).solveSudoku(model, control);
+        }
+        byte[] cells = cellsOf(model);
+        int result = solve(cells, cells, control);
+
+        if (result == CANCELLED) {
+            throw new CancellationException("Solving was cancelled or timed out.");
+        }
+        if (result == INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == MULTIPLE;
+    }
+
+    // Solves the 81 row-major cells of 'in' (0 = empty) and writes the first solution into 'out'.
+    // 'out' may be the same array as 'in'; it is left untouched unless a solution is found.
+    // Instances are reusable and allocate nothing here, but are not thread-safe.
+    public int solve(byte[] in, byte[] out) {
+        if (out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        return run(in, out, 2);
+    }
+
+    // solve(byte[], byte[]) under a SolveControl; returns CANCELLED if it stopped the search, in
+    // which case 'out' may hold a solution whose uniqueness was not established
+    public int solve(byte[] in, byte[] out, SolveControl control) {
+        if (out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        return runControlled(in, out, 2, control);
+    }
+
+    public int solve(byte[] in, byte[] out, Engine engine) {
+        if (engine == Engine.DANCING_LINKS) {
+            return dancingLinks().solve(in, out);
+        }
+        return solve(in, out);
+    }
+
+    // Number of solutions, stopping as soon as 'limit' is reached, or INVALID
+    public int countSolutions(byte[] in, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return run(in, null, limit);
+    }
+
+    public int countSolutions(byte[] in, int limit, SolveControl control) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return runControlled(in, null, limit, control);
+    }
+
+    public int countSolutions(SudokuGrid model, int limit) {
+        return countSolutions(model.getCells(), limit);
+    }
+
+    public int countSolutions(SudokuGrid model, int limit, Engine engine) {
+        if (engine == Engine.DANCING_LINKS) {
+            return dancingLinks().countSolutions(model, limit);
+        }
+        return countSolutions(model, limit);
+    }
+
+    // Applies to the backtracking engine only; PLAIN unless set
+    public void setStrategy(SearchStrategy strategy) {
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.ordered = strategy.isDegreeTieBreak() || strategy.isLeastConstrainingValue() || strategy.isRestarting();
+    }
+
+    // Starts (or, with null, stops) reporting to 'metrics'; it may be shared with other solvers
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isValidGrid(byte[] cells) {
+        return cells.length == CELLS && load(cells);
+    }
+
+    // Searches one subtree for ParallelSudokuSolver. Solutions are added to 'shared', the first one
+    // overall is copied into 'out', and the search stops once 'shared' reaches 'limit'.
+    void searchShared(byte[] in, byte[] out, AtomicInteger shared, int limit, SolveControl control) {
+        sharedCount = shared;
+        try {
+            runControlled(in, out, limit, control);
+        } finally {
+            sharedCount = null;
+        }
+    }
+
+    // Wraps a solve() result code; 'solution' is only kept when a solution was found
+    public static SolveResult toResult(int result, byte[] solution) {
+        switch (result) {
+            case UNIQUE:
+                return new SolveResult(SolveResult.Status.UNIQUE, solution);
+            case MULTIPLE:
+                return new SolveResult(SolveResult.Status.MULTIPLE, solution);
+            case NO_SOLUTION:
+                return new SolveResult(SolveResult.Status.UNSOLVABLE, null);
+            case CANCELLED:
+                return new SolveResult(SolveResult.Status.CANCELLED, null);
+            default:
+                return new SolveResult(SolveResult.Status.INVALID, null);
+        }
+    }
+
+    private byte[] cellsOf(SudokuGrid model) {
+        if (metrics == null) {
+            return model.getCells();
+        }
+        long start = System.nanoTime();
+        byte[] cells = model.getCells();
+        metrics.recordPhase(SolverMetrics.Phase.CONVERT, System.nanoTime() - start);
+        return cells;
+    }
+
+    private GeneralSudokuSolver general(int boxSize) {
+        if (general == null || general.getBoxSize() != boxSize) {
+            general = new GeneralSudokuSolver(boxSize);
+        }
+        return general;
+    }
+
+    private DancingLinksSolver dancingLinks() {
+        if (dancingLinks == null) {
+            dancingLinks = new DancingLinksSolver();
+        }
+        return dancingLinks;
+    }
+
+    private int runControlled(byte[] in, byte[] out, int limit, SolveControl control) {
+        if (control == null) {
+            return run(in, out, limit);
+        }
+        if (control.stopIfCancelled()) {
+            return CANCELLED;
+        }
+        this.control = control;
+        try {
+            int result = run(in, out, limit);
+            return cancelled ? CANCELLED : result;
+        } finally {
+            this.control = null;
+        }
+    }
+
+    private int run(byte[] in, byte[] out, int limit) {
+        if (in.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        // Cleared before load() so a grid rejected there is not reported as the last solve's cancel
+        cancelled = false;
+        SolverMetrics sink = metrics;
+        long start = sink != null ? System.nanoTime() : 0;
+        if (!load(in)) {
+            if (sink != null) {
+                long elapsed = System.nanoTime() - start;
+                sink.recordPhase(SolverMetrics.Phase.VALIDATE, elapsed);
+                sink.recordPhase(SolverMetrics.Phase.TOTAL, elapsed);
+            }
+            return INVALID;
+        }
+        long loaded = sink != null ? System.nanoTime() : 0;
+
+        solution = out;
+        solutionLimit = limit;
+        // Subtrees of a parallel search share one solution count, which a discarded run would corrupt
+        boolean restarting = strategy.isRestarting() && sharedCount == null;
+        instrumented = control != null || sink != null || restarting;
+        nodes = 0;
+        backtracks = 0;
+        pruned = 0;
+        maxDepth = 0;
+        random = restarting ? strategy.getSeed() * 0x9E3779B97F4A7C15L | 1 : 0;
+        long budget = strategy.getInitialBudget();
+        do {
+            solutionCount = 0;
+            exhausted = false;
+            nodeLimit = restarting && budget < Long.MAX_VALUE - nodes ? nodes + budget : Long.MAX_VALUE;
+            search(0);
+            if (restarting) {
+                budget = budget > Long.MAX_VALUE / strategy.getBudgetGrowth()
+                        ? Long.MAX_VALUE : budget * strategy.getBudgetGrowth();
+            }
+        } while (exhausted && !cancelled);
+        nodeLimit = Long.MAX_VALUE;
+        instrumented = false;
+        solution = null;
+
+        if (sink != null) {
+            long end = System.nanoTime();
+            sink.recordPhase(SolverMetrics.Phase.VALIDATE, loaded - start);
+            sink.recordPhase(SolverMetrics.Phase.SEARCH, end - loaded);
+            sink.recordPhase(SolverMetrics.Phase.TOTAL, end - start);
+            // The search leaves 'board' holding the givens again
+            sink.recordSearch(board, nodes, backtracks, pruned, maxDepth);
+        }
+        return solutionCount;
+    }
+
+    // Fills the unit masks from the givens; a repeated digit in any unit makes the grid invalid
+    private boolean load(byte[] grid) {
+        Arrays.fill(rowUsed, 0);
+        Arrays.fill(colUsed, 0);
+        Arrays.fill(boxUsed, 0);
+        emptyCount = 0;
+
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = grid[cell];
+            board[cell] = (byte) value;
+            if (value == 0) {
+                emptyCells[emptyCount++] = cell;
+                continue;
+            }
+            if (value < 1 || value > SIZE) {
+                return false;
+            }
+            int bit = 1 << (value - 1);
+            if (((rowUsed[ROW_OF[cell]] | colUsed[COL_OF[cell]] | boxUsed[BOX_OF[cell]]) & bit) != 0) {
+                return false;
+            }
+            place(cell, bit);
+        }
+        return true;
+    }
+
+    // Depth-first search on the most constrained empty cell; stops once 'solutionLimit' solutions are found
+    private void search(int depth) {
+        if (instrumented && countNode(depth)) {
+            return;
+        }
+        if (depth == emptyCount) {
+            boolean first = sharedCount == null ? solutionCount == 0 : sharedCount.incrementAndGet() == 1;
+            if (first && solution != null) {
+                System.arraycopy(board, 0, solution, 0, CELLS);
+            }
+            solutionCount++;
+            return;
+        }
+
+        // Minimum remaining values: pick the empty cell with the fewest candidates
+        int bestIndex = depth;
+        int bestCandidates = 0;
+        int bestCount = SIZE + 1;
+        int bestDegree = -1;
+        int ties = 0;
+        for (int i = depth; i < emptyCount; i++) {
+            int cell = emptyCells[i];
+            int cellCandidates = candidatesOf(cell);
+            candidates[cell] = cellCandidates;
+            int count = Integer.bitCount(cellCandidates);
+            if (count < bestCount) {
+                bestIndex = i;
+                bestCandidates = cellCandidates;
+                bestCount = count;
+                if (count == 0) {
+                    if (instrumented) {
+                        backtracks++;
+                    }
+                    return;
+                }
+                if (ordered) {
+                    bestDegree = degreeOf(cell);
+                    ties = 1;
+                }
+            } else if (ordered && count == bestCount) {
+                // Degree first, then a uniformly random pick among the cells still tied
+                int degree = degreeOf(cell);
+                if (degree > bestDegree) {
+                    bestDegree = degree;
+                    ties = 1;
+                } else if (degree < bestDegree || random == 0 || nextRandom() % ++ties != 0) {
+                    continue;
+                }
+                bestIndex = i;
+                bestCandidates = cellCandidates;
+            }
+        }
+
+        // No naked single: look for a digit that fits only one cell of some unit
+        if (bestCount > 1) {
+            for (int[] unit : UNITS) {
+                int once = 0;
+                int twice = 0;
+                int used = 0;
+                for (int cell : unit) {
+                    int cellCandidates = board[cell] == 0 ? candidates[cell] : 0;
+                    twice |= once & cellCandidates;
+                    once |= cellCandidates;
+                    if (board[cell] != 0) {
+                        used |= 1 << (board[cell] - 1);
+                    }
+                }
+                if ((once | used) != ALL_DIGITS) {
+                    if (instrumented) {
+                        backtracks++;
+                    }
+                    return;
+                }
+                int hidden = once & ~twice;
+                if (hidden != 0) {
+                    int bit = hidden & -hidden;
+                    for (int cell : unit) {
+                        if (board[cell] == 0 && (candidates[cell] & bit) != 0) {
+                            bestIndex = indexOfEmpty(cell, depth);
+                            bestCandidates = bit;
+                            if (instrumented) {
+                                pruned += bestCount - 1;
+                            }
+                            break;
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+
+        int cell = emptyCells[bestIndex];
+        emptyCells[bestIndex] = emptyCells[depth];
+        emptyCells[depth] = cell;
+
+        if (ordered && (bestCandidates & (bestCandidates - 1)) != 0) {
+            long order = orderValues(cell, bestCandidates);
+            while (order != 0 && !limitReached()) {
+                int digit = (int) (order & 0xF);
+                order >>>= 4;
+                int bit = 1 << (digit - 1);
+
+                board[cell] = (byte) digit;
+                place(cell, bit);
+                search(depth + 1);
+                remove(cell, bit);
+            }
+            board[cell] = 0;
+            return;
+        }
+
+        while (bestCandidates != 0 && !limitReached()) {
+            int bit = bestCandidates & -bestCandidates;
+            bestCandidates ^= bit;
+
+            board[cell] = (byte) (Integer.numberOfTrailingZeros(bit) + 1);
+            place(cell, bit);
+            search(depth + 1);
+            remove(cell, bit);
+        }
+        board[cell] = 0;
+    }
+
+    // Empty cells sharing a unit with 'cell' (counting a cell in two shared units twice); the more
+    // there are, the more a placement here prunes
+    private int degreeOf(int cell) {
+        return 3 * SIZE - Integer.bitCount(rowUsed[ROW_OF[cell]]) - Integer.bitCount(colUsed[COL_OF[cell]])
+                - Integer.bitCount(boxUsed[BOX_OF[cell]]);
+    }
+
+    // The candidate digits of 'cell' in trial order, packed four bits each from the low end. With
+    // least-constraining-value ordering, digits that appear in fewer empty peers come first; ties
+    // go by a random key when restarting and by digit otherwise.
+    private long orderValues(int cell, int cellCandidates) {
+        int count = 0;
+        while (cellCandidates != 0) {
+            int bit = cellCandidates & -cellCandidates;
+            cellCandidates ^= bit;
+            int digit = Integer.numberOfTrailingZeros(bit) + 1;
+            int conflicts = 0;
+            if (strategy.isLeastConstrainingValue()) {
+                for (int peer : CandidateGrid.PEERS[cell]) {
+                    if (board[peer] == 0 && (candidates[peer] & bit) != 0) {
+                        conflicts++;
+                    }
+                }
+            }
+            int tieBreak = random != 0 ? (int) (nextRandom() & 0xFF) : digit;
+            int key = (conflicts << 12) | (tieBreak << 4) | digit;
+            // Insertion sort; at most nine entries
+            int i = count++;
+            while (i > 0 && valueKeys[i - 1] > key) {
+                valueKeys[i] = valueKeys[i - 1];
+                i--;
+            }
+            valueKeys[i] = key;
+        }
+        long order = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            order = (order << 4) | (valueKeys[i] & 0xF);
+        }
+        return order;
+    }
+
+    // xorshift64; only called while 'random' is non-zero, which it then stays
+    private long nextRandom() {
+        long x = random;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        random = x;
+        return x >>> 1;
+    }
+
+    // Counts the node, polls the control every CHECK_INTERVAL nodes and enforces the restart
+    // budget; true once the search must stop
+    private boolean countNode(int depth) {
+        nodes++;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+        if (control != null && !cancelled && (nodes & (SolveControl.CHECK_INTERVAL - 1)) == 0) {
+            cancelled = control.poll(nodes, depth);
+        }
+        if (nodes >= nodeLimit) {
+            exhausted = true;
+        }
+        return cancelled || exhausted;
+    }
+
+    private boolean limitReached() {
+        if (sharedCount != null) {
+            return sharedCount.get() >= solutionLimit;
+        }
+        return solutionCount >= solutionLimit;
+    }
+
+    private int indexOfEmpty(int cell, int from) {
+        int i = from;
+        while (emptyCells[i] != cell) {
+            i++;
+        }
+        return i;
+    }
+
+    private int candidatesOf(int cell) {
+        return ~(rowUsed[ROW_OF[cell]] | colUsed[COL_OF[cell]] | boxUsed[BOX_OF[cell]]) & ALL_DIGITS;
+    }
+
+    private void place(int cell, int bit) {
+        rowUsed[ROW_OF[cell]] |= bit;
+        colUsed[COL_OF[cell]] |= bit;
+        boxUsed[BOX_OF[cell]] |= bit;
+    }
+
+    private void remove(int cell, int bit) {
+        rowUsed[ROW_OF[cell]] &= ~bit;
+        colUsed[COL_OF[cell]] &= ~bit;
+        boxUsed[BOX_OF[cell]] &= ~bit;
+    }
+}
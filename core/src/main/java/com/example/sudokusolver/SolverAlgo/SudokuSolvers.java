@@ -0,0 +1,38 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Models.SudokuGrid;
+
+// Thread-safe entry points for callers that do not want to manage solver instances. Solver
+// objects keep their search state in fields, so each calling thread gets its own, created once
+// and reused for the life of the thread.
+public final class SudokuSolvers {
+
+    private static final int CELLS = 81;
+    private static final ThreadLocal<SudokuSolver> SOLVERS = ThreadLocal.withInitial(SudokuSolver::new);
+
+    private SudokuSolvers() {
+    }
+
+    // Solves a copy of the grid; the grid itself is only read
+    public static SolveResult solve(SudokuGrid grid) {
+        return solve(grid.getCells(), SudokuSolver.Engine.BACKTRACKING);
+    }
+
+    public static SolveResult solve(byte[] cells, SudokuSolver.Engine engine) {
+        if (cells.length != CELLS) {
+            return new SolveResult(SolveResult.Status.INVALID, null);
+        }
+        byte[] solution = new byte[CELLS];
+        return SudokuSolver.toResult(SOLVERS.get().solve(cells, solution, engine), solution);
+    }
+
+    // Number of solutions up to 'limit', or SudokuSolver.INVALID
+    public static int countSolutions(byte[] cells, int limit) {
+        return SOLVERS.get().countSolutions(cells, limit);
+    }
+
+    public static boolean isValid(byte[] cells) {
+        return SOLVERS.get().isValidGrid(cells);
+    }
+}
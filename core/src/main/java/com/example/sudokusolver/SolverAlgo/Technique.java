@@ -0,0 +1,17 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+
+// One human solving technique. LogicalSolver applies its techniques in order, restarting from the
+// simplest one whenever a technique makes progress, until none of them changes the grid.
+public interface Technique {
+
+    String getName();
+
+    // Grade of a puzzle whose hardest required step is this technique
+    Difficulty getDifficulty();
+
+    // Applies the technique everywhere it currently fits; returns true if any cell was filled or
+    // any candidate removed
+    boolean apply(CandidateGrid grid);
+}
@@ -0,0 +1,45 @@
+package com.example.sudokusolver.SolverAlgo.Variants;
+
+// Which digits can still appear in a killer cage: for every set of available digits, number of
+// empty cells and remaining sum, the union of all ways to finish the cage. The table covers
+// 2^9 x 10 x 46 cases in 1 MB and is filled in 3^9 steps by walking each digit set's supersets,
+// so the search looks cage constraints up instead of enumerating combinations.
+final class CageSums {
+
+    private static final int MAX_SUM = 45;
+    private static final short[] TABLE = build();
+
+    private CageSums() {
+    }
+
+    // Digits (bit d - 1) usable in some set of 'count' distinct digits from 'available' adding up to 'sum'
+    static int combinations(int available, int count, int sum) {
+        if (sum < 0 || sum > MAX_SUM || count < 0 || count > VariantPuzzle.SIZE) {
+            return 0;
+        }
+        return TABLE[index(available, count, sum)];
+    }
+
+    private static int index(int available, int count, int sum) {
+        return (available * (VariantPuzzle.SIZE + 1) + count) * (MAX_SUM + 1) + sum;
+    }
+
+    private static short[] build() {
+        int sets = 1 << VariantPuzzle.SIZE;
+        short[] table = new short[sets * (VariantPuzzle.SIZE + 1) * (MAX_SUM + 1)];
+        for (int digits = 0; digits < sets; digits++) {
+            int count = Integer.bitCount(digits);
+            int sum = 0;
+            for (int d = 1; d <= VariantPuzzle.SIZE; d++) {
+                if ((digits & (1 << (d - 1))) != 0) {
+                    sum += d;
+                }
+            }
+            // Every digit set 'digits' is a way to finish the cage for all its supersets
+            for (int available = digits; available < sets; available = (available + 1) | digits) {
+                table[index(available, count, sum)] |= (short) digits;
+            }
+        }
+        return table;
+    }
+}
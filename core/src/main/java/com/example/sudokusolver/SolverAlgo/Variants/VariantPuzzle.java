@@ -0,0 +1,201 @@
+package com.example.sudokusolver.SolverAlgo.Variants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// The rules of a 9x9 variant as data: all-different units (rows, columns, boxes or jigsaw
+// regions, diagonals, extra regions), killer cages with sums, and per-cell digit restrictions
+// such as even/odd. Every table VariantSolver needs is derived once in build(), so a puzzle
+// definition can be shared by any number of solvers.
+public final class VariantPuzzle {
+
+    static final int SIZE = 9;
+    static final int CELLS = SIZE * SIZE;
+    static final int ALL_DIGITS = (1 << SIZE) - 1;
+    private static final int EVEN_DIGITS = 0b010101010;
+    private static final int ODD_DIGITS = ALL_DIGITS & ~EVEN_DIGITS;
+
+    // All-different units; the first 'fullUnits' hold nine cells (every digit exactly once),
+    // followed by one unit per cage
+    final int[][] units;
+    final int fullUnits;
+    // Units containing each cell
+    final int[][] unitsOf;
+    final int[][] cages;
+    final int[] cageSums;
+    // Cage of each cell, or -1
+    final int[] cageOf;
+    // Digits each cell may hold at all
+    final int[] allowed;
+
+    private VariantPuzzle(List<int[]> fullUnitList, List<int[]> cageList, List<Integer> sums, int[] allowed) {
+        this.fullUnits = fullUnitList.size();
+        this.units = new int[fullUnits + cageList.size()][];
+        for (int u = 0; u < fullUnits; u++) {
+            units[u] = fullUnitList.get(u);
+        }
+        this.cages = cageList.toArray(new int[0][]);
+        this.cageSums = new int[cages.length];
+        this.cageOf = new int[CELLS];
+        Arrays.fill(cageOf, -1);
+        for (int c = 0; c < cages.length; c++) {
+            units[fullUnits + c] = cages[c];
+            cageSums[c] = sums.get(c);
+            for (int cell : cages[c]) {
+                cageOf[cell] = c;
+            }
+        }
+        this.allowed = allowed;
+
+        int[] counts = new int[CELLS];
+        for (int[] unit : units) {
+            for (int cell : unit) {
+                counts[cell]++;
+            }
+        }
+        this.unitsOf = new int[CELLS][];
+        for (int cell = 0; cell < CELLS; cell++) {
+            unitsOf[cell] = new int[counts[cell]];
+            counts[cell] = 0;
+        }
+        for (int u = 0; u < units.length; u++) {
+            for (int cell : units[u]) {
+                unitsOf[cell][counts[cell]++] = u;
+            }
+        }
+    }
+
+    // Rows, columns and 3x3 boxes
+    public static Builder classic() {
+        Builder builder = rowsAndColumns();
+        for (int box = 0; box < SIZE; box++) {
+            int[] cells = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                cells[i] = ((box / 3) * 3 + i / 3) * SIZE + (box % 3) * 3 + i % 3;
+            }
+            builder.region(cells);
+        }
+        return builder;
+    }
+
+    // Rows, columns and nine irregular regions; regionOf[cell] is 0-8 and each region has 9 cells
+    public static Builder jigsaw(int[] regionOf) {
+        if (regionOf.length != CELLS) {
+            throw new IllegalArgumentException("Expected a region for each of the " + CELLS + " cells.");
+        }
+        int[][] regions = new int[SIZE][SIZE];
+        int[] filled = new int[SIZE];
+        for (int cell = 0; cell < CELLS; cell++) {
+            int region = regionOf[cell];
+            if (region < 0 || region >= SIZE || filled[region] == SIZE) {
+                throw new IllegalArgumentException("Regions must be 0-8 with nine cells each.");
+            }
+            regions[region][filled[region]++] = cell;
+        }
+        Builder builder = rowsAndColumns();
+        for (int[] region : regions) {
+            builder.region(region);
+        }
+        return builder;
+    }
+
+    private static Builder rowsAndColumns() {
+        Builder builder = new Builder();
+        for (int i = 0; i < SIZE; i++) {
+            int[] row = new int[SIZE];
+            int[] col = new int[SIZE];
+            for (int j = 0; j < SIZE; j++) {
+                row[j] = i * SIZE + j;
+                col[j] = j * SIZE + i;
+            }
+            builder.region(row);
+            builder.region(col);
+        }
+        return builder;
+    }
+
+    public static final class Builder {
+        private final List<int[]> fullUnits = new ArrayList<>();
+        private final List<int[]> cages = new ArrayList<>();
+        private final List<Integer> sums = new ArrayList<>();
+        private final int[] allowed = new int[CELLS];
+
+        private Builder() {
+            Arrays.fill(allowed, ALL_DIGITS);
+        }
+
+        // Nine cells holding every digit once, e.g. an extra window of a Windoku
+        public Builder region(int... cells) {
+            if (cells.length != SIZE) {
+                throw new IllegalArgumentException("A region needs exactly " + SIZE + " cells.");
+            }
+            fullUnits.add(checkCells(cells));
+            return this;
+        }
+
+        // Both main diagonals (X-Sudoku)
+        public Builder diagonals() {
+            int[] main = new int[SIZE];
+            int[] anti = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                main[i] = i * SIZE + i;
+                anti[i] = i * SIZE + SIZE - 1 - i;
+            }
+            return region(main).region(anti);
+        }
+
+        // Killer cage: distinct digits adding up to 'sum'. Cages may not overlap.
+        public Builder cage(int sum, int... cells) {
+            if (cells.length < 1 || cells.length > SIZE) {
+                throw new IllegalArgumentException("A cage needs 1 to " + SIZE + " cells.");
+            }
+            if (CageSums.combinations(ALL_DIGITS, cells.length, sum) == 0) {
+                throw new IllegalArgumentException("No " + cells.length + " distinct digits add up to " + sum + ".");
+            }
+            for (int[] cage : cages) {
+                for (int cell : cage) {
+                    for (int other : cells) {
+                        if (cell == other) {
+                            throw new IllegalArgumentException("Cell " + cell + " is already in a cage.");
+                        }
+                    }
+                }
+            }
+            cages.add(checkCells(cells));
+            sums.add(sum);
+            return this;
+        }
+
+        public Builder even(int... cells) {
+            return restrict(EVEN_DIGITS, cells);
+        }
+
+        public Builder odd(int... cells) {
+            return restrict(ODD_DIGITS, cells);
+        }
+
+        // Limits cells to the digits in 'mask' (bit d - 1 for digit d)
+        public Builder restrict(int mask, int... cells) {
+            for (int cell : checkCells(cells)) {
+                allowed[cell] &= mask;
+            }
+            return this;
+        }
+
+        public VariantPuzzle build() {
+            return new VariantPuzzle(fullUnits, cages, sums, allowed.clone());
+        }
+
+        private static int[] checkCells(int[] cells) {
+            boolean[] seen = new boolean[CELLS];
+            for (int cell : cells) {
+                if (cell < 0 || cell >= CELLS || seen[cell]) {
+                    throw new IllegalArgumentException("Cells must be distinct and between 0 and " + (CELLS - 1) + ".");
+                }
+                seen[cell] = true;
+            }
+            return cells.clone();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.sudokusolver.SolverAlgo.Variants;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import java.util.Arrays;
+
+// SudokuSolver's bitmask MRV search driven by a VariantPuzzle instead of fixed row/column/box
+// tables. A cell's candidates are its allowed digits minus those used in any of its units, cut
+// further by the cage-sum table for killer cages; hidden singles come from the nine-cell units.
+// Result codes are SudokuSolver's. Instances are reusable but not thread-safe.
+public class VariantSolver {
+
+    private static final int CELLS = VariantPuzzle.CELLS;
+    private static final int ALL_DIGITS = VariantPuzzle.ALL_DIGITS;
+
+    private final VariantPuzzle puzzle;
+
+    // Digits placed in each unit
+    private final int[] used;
+    // Sum and number of digits placed in each cage
+    private final int[] cageTotal;
+    private final int[] cageFilled;
+
+    private final byte[] board = new byte[CELLS];
+    private final int[] emptyCells = new int[CELLS];
+    private int emptyCount;
+    private final int[] candidates = new int[CELLS];
+
+    private byte[] solution;
+    private int solutionCount;
+    private int solutionLimit;
+
+    public VariantSolver(VariantPuzzle puzzle) {
+        this.puzzle = puzzle;
+        this.used = new int[puzzle.units.length];
+        this.cageTotal = new int[puzzle.cages.length];
+        this.cageFilled = new int[puzzle.cages.length];
+    }
+
+    public boolean solveSudoku(SudokuGrid model) throws IllegalArgumentException {
+        if (model.getSize() != VariantPuzzle.SIZE) {
+            throw new IllegalArgumentException("Variants are only supported on 9x9 grids.");
+        }
+        byte[] cells = model.getCells();
+        int result = solve(cells, cells);
+
+        if (result == SudokuSolver.INVALID) {
+            throw new IllegalArgumentException("Invalid Sudoku Grid: Violates Sudoku rules.");
+        }
+        if (result == SudokuSolver.NO_SOLUTION) {
+            throw new IllegalArgumentException("No solution exists for this Sudoku.");
+        }
+
+        return result == SudokuSolver.MULTIPLE;
+    }
+
+    // Same contract as SudokuSolver.solve(byte[], byte[]) under this solver's rules
+    public int solve(byte[] in, byte[] out) {
+        if (out.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        return run(in, out, 2);
+    }
+
+    public int countSolutions(byte[] in, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        return run(in, null, limit);
+    }
+
+    private int run(byte[] in, byte[] out, int limit) {
+        if (in.length != CELLS) {
+            throw new IllegalArgumentException("Expected " + CELLS + " cells.");
+        }
+        if (!load(in)) {
+            return SudokuSolver.INVALID;
+        }
+
+        solution = out;
+        solutionCount = 0;
+        solutionLimit = limit;
+        search(0);
+        solution = null;
+
+        return solutionCount;
+    }
+
+    // Places the givens; a repeat in any unit, a disallowed digit or a broken cage sum is invalid
+    private boolean load(byte[] grid) {
+        Arrays.fill(used, 0);
+        Arrays.fill(cageTotal, 0);
+        Arrays.fill(cageFilled, 0);
+        emptyCount = 0;
+
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = grid[cell];
+            board[cell] = (byte) value;
+            if (value == 0) {
+                emptyCells[emptyCount++] = cell;
+                continue;
+            }
+            if (value < 1 || value > VariantPuzzle.SIZE) {
+                return false;
+            }
+            int bit = 1 << (value - 1);
+            if ((puzzle.allowed[cell] & bit) == 0 || (usedBy(cell) & bit) != 0) {
+                return false;
+            }
+            place(cell, value, bit);
+        }
+        for (int c = 0; c < puzzle.cages.length; c++) {
+            int target = puzzle.cageSums[c];
+            boolean full = cageFilled[c] == puzzle.cages[c].length;
+            if (cageTotal[c] > target || full && cageTotal[c] != target) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void search(int depth) {
+        if (depth == emptyCount) {
+            if (solutionCount == 0 && solution != null) {
+                System.arraycopy(board, 0, solution, 0, CELLS);
+            }
+            solutionCount++;
+            return;
+        }
+
+        int bestIndex = depth;
+        int bestCandidates = 0;
+        int bestCount = VariantPuzzle.SIZE + 1;
+        for (int i = depth; i < emptyCount; i++) {
+            int cell = emptyCells[i];
+            int cellCandidates = candidatesOf(cell);
+            candidates[cell] = cellCandidates;
+            int count = Integer.bitCount(cellCandidates);
+            if (count < bestCount) {
+                bestIndex = i;
+                bestCandidates = cellCandidates;
+                bestCount = count;
+                if (count == 0) {
+                    return;
+                }
+            }
+        }
+
+        // Hidden single in a nine-cell unit
+        if (bestCount > 1) {
+            for (int u = 0; u < puzzle.fullUnits; u++) {
+                int[] unit = puzzle.units[u];
+                int once = 0;
+                int twice = 0;
+                for (int cell : unit) {
+                    int cellCandidates = board[cell] == 0 ? candidates[cell] : 0;
+                    twice |= once & cellCandidates;
+                    once |= cellCandidates;
+                }
+                if ((once | used[u]) != ALL_DIGITS) {
+                    return;
+                }
+                int hidden = once & ~twice;
+                if (hidden != 0) {
+                    int bit = hidden & -hidden;
+                    for (int cell : unit) {
+                        if (board[cell] == 0 && (candidates[cell] & bit) != 0) {
+                            bestIndex = indexOfEmpty(cell, depth);
+                            bestCandidates = bit;
+                            break;
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+
+        int cell = emptyCells[bestIndex];
+        emptyCells[bestIndex] = emptyCells[depth];
+        emptyCells[depth] = cell;
+
+        while (bestCandidates != 0 && solutionCount < solutionLimit) {
+            int bit = bestCandidates & -bestCandidates;
+            bestCandidates ^= bit;
+
+            int digit = Integer.numberOfTrailingZeros(bit) + 1;
+            board[cell] = (byte) digit;
+            place(cell, digit, bit);
+            search(depth + 1);
+            remove(cell, digit, bit);
+        }
+        board[cell] = 0;
+    }
+
+    private int indexOfEmpty(int cell, int from) {
+        int i = from;
+        while (emptyCells[i] != cell) {
+            i++;
+        }
+        return i;
+    }
+
+    private int usedBy(int cell) {
+        int mask = 0;
+        for (int u : puzzle.unitsOf[cell]) {
+            mask |= used[u];
+        }
+        return mask;
+    }
+
+    private int candidatesOf(int cell) {
+        int mask = puzzle.allowed[cell] & ~usedBy(cell);
+        int cage = puzzle.cageOf[cell];
+        if (cage >= 0 && mask != 0) {
+            int cageUnit = puzzle.fullUnits + cage;
+            mask &= CageSums.combinations(ALL_DIGITS & ~used[cageUnit],
+                    puzzle.cages[cage].length - cageFilled[cage],
+                    puzzle.cageSums[cage] - cageTotal[cage]);
+        }
+        return mask;
+    }
+
+    private void place(int cell, int digit, int bit) {
+        for (int u : puzzle.unitsOf[cell]) {
+            used[u] |= bit;
+        }
+        int cage = puzzle.cageOf[cell];
+        if (cage >= 0) {
+            cageTotal[cage] += digit;
+            cageFilled[cage]++;
+        }
+    }
+
+    private void remove(int cell, int digit, int bit) {
+        for (int u : puzzle.unitsOf[cell]) {
+            used[u] &= ~bit;
+        }
+        int cage = puzzle.cageOf[cell];
+        if (cage >= 0) {
+            cageTotal[cage] -= digit;
+            cageFilled[cage]--;
+        }
+    }
+}
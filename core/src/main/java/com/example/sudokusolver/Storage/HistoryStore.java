@@ -0,0 +1,282 @@
+package com.example.sudokusolver.Storage;
+
+import com.example.sudokusolver.Models.PackedGrid;
+import com.example.sudokusolver.Models.SolveResult;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Append-only history of solved puzzles in a memory-mapped file. Records have a fixed size, so
+// record i lives at HEADER_SIZE + i * RECORD_SIZE and the header's record count is the only thing
+// ever rewritten; it is updated after the record itself, so a crash mid-append loses at most that
+// record. Two in-memory hash indexes, rebuilt on open, find a record by its givens or by the hash
+// of the image it was scanned from. Safe to share between threads.
+//
+// Header: magic "SDKH", version, record count (ints). Record:
+//   0  packed givens (41)     41 packed solution (41, zero if unsolved)
+//   82 status (1)             83 reserved (1)
+//   84 timestamp ms (8)       92 source hash (8)
+public final class HistoryStore implements Closeable {
+
+    public static final class Entry {
+        private final byte[] givens;
+        private final byte[] solution;
+        private final SolveResult.Status status;
+        private final long timestamp;
+        private final long sourceHash;
+
+        Entry(byte[] givens, byte[] solution, SolveResult.Status status, long timestamp, long sourceHash) {
+            this.givens = givens;
+            this.solution = solution;
+            this.status = status;
+            this.timestamp = timestamp;
+            this.sourceHash = sourceHash;
+        }
+
+        public byte[] getGivens() {
+            return givens;
+        }
+
+        // Null unless the status is solved
+        public byte[] getSolution() {
+            return solution;
+        }
+
+        public SolveResult.Status getStatus() {
+            return status;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public long getSourceHash() {
+            return sourceHash;
+        }
+
+        public SolveResult toResult() {
+            return new SolveResult(status, solution);
+        }
+    }
+
+    // No known source image
+    public static final long NO_SOURCE = 0;
+
+    private static final int MAGIC = 0x53444B48; // "SDKH"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int COUNT_OFFSET = 8;
+    static final int RECORD_SIZE = 100;
+    private static final int SOLUTION_OFFSET = PackedGrid.PACKED_SIZE;
+    private static final int STATUS_OFFSET = 2 * PackedGrid.PACKED_SIZE;
+    private static final int TIMESTAMP_OFFSET = 84;
+    private static final int SOURCE_OFFSET = 92;
+    private static final int INITIAL_CAPACITY = 256;
+    public static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final SolveResult.Status[] STATUSES = SolveResult.Status.values();
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+    // Hash of the packed givens -> latest record; hits are checked against the stored givens
+    private final Map<Long, Integer> byGivens = new HashMap<>();
+    private final Map<Long, Integer> bySource = new HashMap<>();
+    private final byte[] packed = new byte[PackedGrid.PACKED_SIZE];
+
+    private HistoryStore(RandomAccessFile file) {
+        this.file = file;
+        this.channel = file.getChannel();
+    }
+
+    // Opens or creates the store; a file that is not a history store is rejected, not overwritten
+    public static HistoryStore open(File path) throws IOException {
+        HistoryStore store = new HistoryStore(new RandomAccessFile(path, "rw"));
+        try {
+            store.load();
+        } catch (IOException | RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    private void load() throws IOException {
+        long length = channel.size();
+        if (length == 0) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(COUNT_OFFSET, 0);
+            return;
+        }
+        // Check the header with a plain read first: mapping grows the file, and a file that is not
+        // a store must be left exactly as it was
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        if (header.hasRemaining()) {
+            throw new IOException("Not a history store: too short");
+        }
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a history store, or an unsupported version");
+        }
+        int records = header.getInt(COUNT_OFFSET);
+        if (records < 0 || HEADER_SIZE + (long) records * RECORD_SIZE > length) {
+            throw new IOException("Corrupt history store: bad record count " + records);
+        }
+        map((int) Math.max(INITIAL_CAPACITY, (length - HEADER_SIZE) / RECORD_SIZE));
+        count = records;
+        for (int i = 0; i < count; i++) {
+            index(i);
+        }
+    }
+
+    private void map(int records) throws IOException {
+        capacity = records;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) records * RECORD_SIZE);
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    // Latest record with exactly these givens, or null
+    public synchronized Entry findByGivens(byte[] givens) {
+        PackedGrid.pack(checkCells(givens), packed, 0);
+        Integer record = byGivens.get(hash(packed, 0, packed.length));
+        if (record == null || !givensMatch(record)) {
+            return null;
+        }
+        return read(record);
+    }
+
+    // Latest record scanned from the image with this hash, or null
+    public synchronized Entry findBySource(long sourceHash) {
+        if (sourceHash == NO_SOURCE) {
+            return null;
+        }
+        Integer record = bySource.get(sourceHash);
+        return record != null ? read(record) : null;
+    }
+
+    public synchronized void append(byte[] givens, SolveResult result, long sourceHash, long timestamp)
+            throws IOException {
+        if (count == capacity) {
+            map(capacity * 2);
+        }
+        int offset = HEADER_SIZE + count * RECORD_SIZE;
+        PackedGrid.pack(checkCells(givens), packed, 0);
+        put(offset, packed);
+        if (result.isSolved()) {
+            PackedGrid.pack(checkCells(result.getSolution()), packed, 0);
+        } else {
+            Arrays.fill(packed, (byte) 0);
+        }
+        put(offset + SOLUTION_OFFSET, packed);
+        buffer.put(offset + STATUS_OFFSET, (byte) result.getStatus().ordinal());
+        buffer.put(offset + STATUS_OFFSET + 1, (byte) 0);
+        buffer.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        buffer.putLong(offset + SOURCE_OFFSET, sourceHash);
+        // Publish the record only once it is complete
+        buffer.putInt(COUNT_OFFSET, count + 1);
+        index(count);
+        count++;
+    }
+
+    // Flushes appended records to storage; until then they survive a process crash but not power loss
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null && count > 0) {
+            buffer.force();
+        }
+        file.close();
+    }
+
+    private void index(int record) {
+        int offset = HEADER_SIZE + record * RECORD_SIZE;
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(packed);
+        byGivens.put(hash(packed, 0, packed.length), record);
+        long source = buffer.getLong(offset + SOURCE_OFFSET);
+        if (source != NO_SOURCE) {
+            bySource.put(source, record);
+        }
+    }
+
+    private boolean givensMatch(int record) {
+        int offset = HEADER_SIZE + record * RECORD_SIZE;
+        for (int i = 0; i < PackedGrid.PACKED_SIZE; i++) {
+            if (buffer.get(offset + i) != packed[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Entry read(int record) {
+        int offset = HEADER_SIZE + record * RECORD_SIZE;
+        byte[] bytes = new byte[2 * PackedGrid.PACKED_SIZE];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        byte[] givens = new byte[PackedGrid.CELLS];
+        PackedGrid.unpack(bytes, 0, givens);
+        int ordinal = buffer.get(offset + STATUS_OFFSET);
+        SolveResult.Status status = ordinal >= 0 && ordinal < STATUSES.length
+                ? STATUSES[ordinal] : SolveResult.Status.INVALID;
+        byte[] solution = null;
+        if (status.isSolved()) {
+            solution = new byte[PackedGrid.CELLS];
+            PackedGrid.unpack(bytes, SOLUTION_OFFSET, solution);
+        }
+        return new Entry(givens, solution, status,
+                buffer.getLong(offset + TIMESTAMP_OFFSET), buffer.getLong(offset + SOURCE_OFFSET));
+    }
+
+    private void put(int offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + i, bytes[i]);
+        }
+    }
+
+    private static byte[] checkCells(byte[] cells) {
+        if (cells == null || cells.length != PackedGrid.CELLS) {
+            throw new IllegalArgumentException("Expected " + PackedGrid.CELLS + " cells.");
+        }
+        return cells;
+    }
+
+    // 64-bit FNV-1a; also used by callers to fingerprint source images
+    public static long hash(byte[] bytes, int offset, int length) {
+        return hash(FNV_OFFSET, bytes, offset, length);
+    }
+
+    // Continues a hash started with hash() or FNV_OFFSET over more bytes
+    public static long hash(long hash, byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            hash ^= bytes[i] & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
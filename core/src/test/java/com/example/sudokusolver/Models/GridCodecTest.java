@@ -0,0 +1,102 @@
+package com.example.sudokusolver.Models;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class GridCodecTest {
+
+    // Output of encode_grid in server/flaskapi/app.py for the same grids; the two must stay in step
+    private static final String[][] SERVER_ENCODINGS = {
+            {Puzzles.EASY, "01c84e1851194c450c390980537619598686348317266284195879"},
+            {Puzzles.SEVENTEEN_CLUE, "011400e00140224206601200814357812367534260"},
+            {Puzzles.MULTIPLE[0], "010000000000000000000000"},
+            {Puzzles.EASY_SOLUTION, "005346789126721953481983425678597614234268537917139248569615372842874196353452861790"},
+    };
+
+    @Test
+    public void encode_matchesServer() {
+        for (String[] pair : SERVER_ENCODINGS) {
+            assertArrayEquals(pair[0], hex(pair[1]), GridCodec.encode(Puzzles.parse(pair[0])));
+        }
+    }
+
+    @Test
+    public void decode_roundTrips() throws IOException {
+        for (byte[] puzzle : Puzzles.all()) {
+            assertArrayEquals(puzzle, GridCodec.decode(GridCodec.encode(puzzle)));
+        }
+        byte[] full = Puzzles.parse(Puzzles.EASY_SOLUTION);
+        assertArrayEquals(full, GridCodec.decode(GridCodec.encode(full)));
+    }
+
+    @Test
+    public void packedGrid_roundTrips() {
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] cells = new byte[81];
+            PackedGrid.unpack(PackedGrid.pack(puzzle), 0, cells);
+            assertArrayEquals(puzzle, cells);
+        }
+    }
+
+    @Test
+    public void delimited_roundTrips() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] puzzle : Puzzles.all()) {
+            GridCodec.writeDelimited(out, puzzle);
+        }
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (byte[] puzzle : Puzzles.all()) {
+            assertArrayEquals(puzzle, GridCodec.readDelimited(in));
+        }
+        assertNull(GridCodec.readDelimited(in));
+    }
+
+    @Test
+    public void decode_rejectsCorruptInput() {
+        byte[] dense = GridCodec.encode(Puzzles.parse(Puzzles.EASY_SOLUTION));
+        assertEquals(GridCodec.MAX_ENCODED_SIZE, dense.length);
+        dense[1] = (byte) 0xA1;
+        assertRejected(dense);
+
+        byte[] sparse = GridCodec.encode(Puzzles.parse(Puzzles.EASY));
+        byte[] badDigit = sparse.clone();
+        badDigit[12] = (byte) (0xF0 | badDigit[12] & 0x0F);
+        assertRejected(badDigit);
+        byte[] missingDigit = sparse.clone();
+        missingDigit[12] &= 0x0F;
+        assertRejected(missingDigit);
+
+        assertRejected(new byte[0]);
+        assertRejected(new byte[] {2});
+        assertRejected(Arrays.copyOf(sparse, sparse.length - 1));
+    }
+
+    private static void assertRejected(byte[] data) {
+        try {
+            GridCodec.decode(data);
+            fail("Decoded corrupt input");
+        } catch (IOException expected) {
+            // ok
+        }
+    }
+
+    private static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sudokusolver.Models;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class SudokuGridTest {
+
+    @Test
+    public void listForm_roundTrips() {
+        byte[] cells = Puzzles.parse(Puzzles.EASY);
+        SudokuGrid grid = new SudokuGrid(new SudokuGrid(cells.clone()).getGrid());
+        assertArrayEquals(cells, grid.getCells());
+        assertEquals(9, grid.getSize());
+    }
+
+    @Test
+    public void getCells_rejectsOutOfRangeValues() {
+        // 265 would wrap to 9 in a byte
+        for (int value : new int[] {-1, 10, 265}) {
+            List<List<Integer>> rows = rows(9);
+            rows.get(4).set(4, value);
+            SudokuGrid grid = new SudokuGrid(rows);
+            try {
+                grid.getCells();
+                fail("Accepted " + value);
+            } catch (IllegalArgumentException expected) {
+                // The list form is kept, so the bad value is still there to report
+                assertEquals(value, (int) grid.getGrid().get(4).get(4));
+            }
+        }
+    }
+
+    @Test
+    public void getCells_allowsDigitsUpToSize() {
+        List<List<Integer>> rows = rows(16);
+        rows.get(0).set(0, 16);
+        assertEquals(16, new SudokuGrid(rows).getCells()[0]);
+    }
+
+    @Test
+    public void listConstructor_rejectsBadShapes() {
+        assertRejected(rows(8));
+        List<List<Integer>> shortRow = rows(9);
+        shortRow.get(3).remove(0);
+        assertRejected(shortRow);
+        List<List<Integer>> missingRow = rows(9);
+        missingRow.set(3, null);
+        assertRejected(missingRow);
+    }
+
+    private static void assertRejected(List<List<Integer>> rows) {
+        try {
+            new SudokuGrid(rows);
+            fail("Accepted a malformed grid");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+    }
+
+    private static List<List<Integer>> rows(int size) {
+        List<List<Integer>> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rows.add(new ArrayList<>(Collections.nCopies(size, 0)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.sudokusolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The benchmark module's corpus (see benchmark/.../Corpus.java), plus grids that break the rules
+// only by having no solution, in the one-line format: 81 characters, '.' for an empty cell
+public final class Puzzles {
+
+    public static final String EASY = "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79";
+    public static final String EASY_SOLUTION = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+    public static final String SEVENTEEN_CLUE = "...8.1..........435............7.8........1...2..3....6......75..34........2..6..";
+
+    public static final String[] UNIQUE = {
+            EASY,
+            "..3.2.6..9..3.5..1..18.64....81.29..7.......8..67.82....26.95..8..2.3..9..5.1.3..",
+            "2...8.3...6..7..84.3.5..2.9...1.54.8.........4.27.6...3.1..7.4.72..4..6...4.1...3",
+            "8..........36......7..9.2...5...7.......457.....1...3...1....68..85...1..9....4..",
+            "4.....8.5.3..........7......2.....6.....8.4......1.......6.3.7.5..2.....1.4......",
+            "1.......2.9.4...5...6...7...5.9.3.......7.......85..4.7.....6...3...9.8...2.....1",
+            SEVENTEEN_CLUE,
+            ".......1.4.........2...........5.4.7..8...3....1.9....3..4..2...5.1........8.6...",
+            "9..8...........5............2..1...3.1.....6....4...7.7.86.........3.1..4.....2..",
+            "..............3.85..1.2.......5.7.....4...1...9.......5......73..2.1........4...9",
+    };
+
+    public static final String[] INVALID = {
+            "55...............................................................................",
+            "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..75",
+            "1.......................................................................1........",
+    };
+
+    public static final String[] MULTIPLE = {
+            ".................................................................................",
+            ".........6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79",
+            "8..........36......7..9.2...5...7.......457.....1...3...1....68..85......9....4..",
+    };
+
+    // Rule-abiding but unsolvable: the last cell of the first row can only be 9, which its column
+    // already has
+    public static final String[] UNSOLVABLE = {
+            "12345678.........9...............................................................",
+    };
+
+    private Puzzles() {
+    }
+
+    public static byte[] parse(String line) {
+        byte[] cells = new byte[81];
+        for (int i = 0; i < 81; i++) {
+            char c = line.charAt(i);
+            cells[i] = (byte) (c >= '1' && c <= '9' ? c - '0' : 0);
+        }
+        return cells;
+    }
+
+    public static List<byte[]> all() {
+        List<byte[]> puzzles = new ArrayList<>();
+        for (String[] group : new String[][] {UNIQUE, INVALID, MULTIPLE, UNSOLVABLE}) {
+            for (String line : group) {
+                puzzles.add(parse(line));
+            }
+        }
+        return puzzles;
+    }
+
+    // True when 'solution' is a complete valid grid that keeps every given
+    public static boolean solves(byte[] givens, byte[] solution) {
+        for (int i = 0; i < 81; i++) {
+            if (solution[i] < 1 || solution[i] > 9 || givens[i] != 0 && givens[i] != solution[i]) {
+                return false;
+            }
+        }
+        for (int unit = 0; unit < 9; unit++) {
+            int rows = 0;
+            int cols = 0;
+            int boxes = 0;
+            for (int i = 0; i < 9; i++) {
+                rows |= 1 << solution[unit * 9 + i];
+                cols |= 1 << solution[i * 9 + unit];
+                boxes |= 1 << solution[(unit / 3 * 3 + i / 3) * 9 + unit % 3 * 3 + i % 3];
+            }
+            if (rows != 0x3FE || cols != 0x3FE || boxes != 0x3FE) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
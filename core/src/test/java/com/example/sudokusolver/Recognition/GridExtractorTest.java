@@ -0,0 +1,199 @@
+package com.example.sudokusolver.Recognition;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class GridExtractorTest {
+
+    // recognition/defaultSudoku.png is a copy of server/flaskapi/defaultSudoku.png
+    private static final String PHOTO = "/recognition/defaultSudoku.png";
+    // Written by server/flaskapi/dump_cells.py from the same photo; see there for the command
+    private static final String SERVER_INPUTS = "/recognition/defaultSudoku.cells";
+    private static final String GIVENS =
+            "080000200000084090006320010097000080800903002010000950070045800030710000008000040";
+
+    // Mean per-pixel difference allowed against the server's input for a cell, on the model's
+    // 0..1 scale; OpenCV's fixed-point resampling rounds differently at stroke edges
+    private static final double SERVER_TOLERANCE = 0.05;
+
+    private final float[] inputs = new float[GridExtractor.CELLS * GridExtractor.INPUT_LENGTH];
+    private final int[] cellIndex = new int[GridExtractor.CELLS];
+
+    @Test
+    public void photo_keepsEveryDigitCell() throws IOException {
+        Photo photo = Photo.load(PHOTO);
+        assertDigitsKept(photo);
+        // The same grid with a white surround and off-centre, as a camera would frame it
+        assertDigitsKept(photo.pad(60, 30, 200, 90));
+    }
+
+    @Test
+    public void reusedInstance_givesSameInputs() throws IOException {
+        Photo photo = Photo.load(PHOTO);
+        GridExtractor extractor = new GridExtractor();
+        int count = extractor.extract(photo.gray, photo.width, photo.height, inputs, cellIndex);
+        float[] first = Arrays.copyOf(inputs, count * GridExtractor.INPUT_LENGTH);
+        int[] firstIndex = Arrays.copyOf(cellIndex, count);
+
+        Photo padded = photo.pad(100, 100, 100, 100);
+        extractor.extract(padded.gray, padded.width, padded.height, inputs, cellIndex);
+        assertEquals(count, extractor.extract(photo.gray, photo.width, photo.height, inputs, cellIndex));
+        assertArrayEquals(firstIndex, Arrays.copyOf(cellIndex, count));
+        assertArrayEquals(first, Arrays.copyOf(inputs, count * GridExtractor.INPUT_LENGTH), 0f);
+    }
+
+    // Square, so there is no black padding whose edge could pass for an outline
+    @Test
+    public void blankImage_hasNoGrid() {
+        int[] white = new int[300 * 300];
+        Arrays.fill(white, 255);
+        assertEquals(-1, new GridExtractor().extract(white, 300, 300, inputs, cellIndex));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortBuffers_areRejected() {
+        new GridExtractor().extract(new int[100], 10, 10, new float[GridExtractor.INPUT_LENGTH], cellIndex);
+    }
+
+    // Same cells, same order and nearly the same pixels as the server's pipeline on the photo
+    @Test
+    public void photo_matchesServerInputs() throws IOException {
+        List<int[]> server = readServerInputs();
+        Assume.assumeTrue("No " + SERVER_INPUTS + "; generate it with server/flaskapi/dump_cells.py",
+                server != null);
+        Photo photo = Photo.load(PHOTO);
+        int count = new GridExtractor().extract(photo.gray, photo.width, photo.height, inputs, cellIndex);
+
+        int[] serverIndex = new int[server.size()];
+        for (int i = 0; i < serverIndex.length; i++) {
+            serverIndex[i] = server.get(i)[0];
+        }
+        assertArrayEquals(serverIndex, Arrays.copyOf(cellIndex, count));
+        for (int i = 0; i < count; i++) {
+            int[] expected = server.get(i);
+            double difference = 0;
+            for (int p = 0; p < GridExtractor.INPUT_LENGTH; p++) {
+                difference += Math.abs(inputs[i * GridExtractor.INPUT_LENGTH + p] - expected[p + 1] / 255.0);
+            }
+            difference /= GridExtractor.INPUT_LENGTH;
+            assertTrue("Cell " + expected[0] + " differs by " + difference, difference <= SERVER_TOLERANCE);
+        }
+    }
+
+    // Blank cells may still be passed on (grid-line remnants fool the blank check, on the server
+    // too, and the classifier then rejects them); a digit must never be dropped, and its input must
+    // carry a digit's worth of ink
+    private void assertDigitsKept(Photo photo) {
+        int count = new GridExtractor().extract(photo.gray, photo.width, photo.height, inputs, cellIndex);
+        assertTrue(count > 0);
+        boolean[] extracted = new boolean[GridExtractor.CELLS];
+        for (int i = 0; i < count; i++) {
+            int cell = cellIndex[i];
+            extracted[cell] = true;
+            if (GIVENS.charAt(cell) == '0') {
+                continue;
+            }
+            // Dark strokes on white after the server's double inversion
+            int ink = 0;
+            for (int p = 0; p < GridExtractor.INPUT_LENGTH; p++) {
+                if (inputs[i * GridExtractor.INPUT_LENGTH + p] < 0.5f) {
+                    ink++;
+                }
+            }
+            assertTrue("Cell " + cell + " has " + ink + " ink pixels", ink >= 100 && ink <= 450);
+        }
+        for (int cell = 0; cell < GridExtractor.CELLS; cell++) {
+            assertTrue("Digit cell " + cell + " was dropped", extracted[cell] || GIVENS.charAt(cell) == '0');
+        }
+    }
+
+    // Index followed by the 1024 pixels of each line, or null when the fixture was not generated
+    private List<int[]> readServerInputs() throws IOException {
+        InputStream stream = getClass().getResourceAsStream(SERVER_INPUTS);
+        if (stream == null) {
+            return null;
+        }
+        List<int[]> cells = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.trim().split(" ");
+                assertEquals(1 + GridExtractor.INPUT_LENGTH, fields.length);
+                int[] values = new int[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    values[i] = Integer.parseInt(fields[i]);
+                }
+                cells.add(values);
+            }
+        }
+        return cells;
+    }
+
+    // Grayscale pixels the way the server gets them (cv2.imread, then BGR2GRAY)
+    private static final class Photo {
+        final int[] gray;
+        final int width;
+        final int height;
+
+        Photo(int[] gray, int width, int height) {
+            this.gray = gray;
+            this.width = width;
+            this.height = height;
+        }
+
+        static Photo load(String resource) throws IOException {
+            BufferedImage image;
+            try (InputStream stream = GridExtractorTest.class.getResourceAsStream(resource)) {
+                assertNotNull(resource, stream);
+                image = ImageIO.read(stream);
+            }
+            int width = image.getWidth();
+            int height = image.getHeight();
+            Raster raster = image.getRaster();
+            int[] gray = new int[width * height];
+            if (raster.getNumBands() < 3) {
+                raster.getSamples(0, 0, width, height, 0, gray);
+            } else {
+                for (int i = 0; i < gray.length; i++) {
+                    int x = i % width;
+                    int y = i / width;
+                    gray[i] = (int) Math.round(0.299 * raster.getSample(x, y, 0)
+                            + 0.587 * raster.getSample(x, y, 1) + 0.114 * raster.getSample(x, y, 2));
+                }
+            }
+            return new Photo(gray, width, height);
+        }
+
+        // White borders of the given widths around the image
+        Photo pad(int left, int top, int right, int bottom) {
+            int paddedWidth = left + width + right;
+            int[] padded = new int[paddedWidth * (top + height + bottom)];
+            Arrays.fill(padded, 255);
+            for (int y = 0; y < height; y++) {
+                System.arraycopy(gray, y * width, padded, (top + y) * paddedWidth + left, width);
+            }
+            return new Photo(padded, paddedWidth, top + height + bottom);
+        }
+    }
+}
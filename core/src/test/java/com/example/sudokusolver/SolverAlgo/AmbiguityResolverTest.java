@@ -0,0 +1,95 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SudokuGrid;
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class AmbiguityResolverTest {
+
+    private final byte[] truth = Puzzles.parse(Puzzles.EASY);
+    private final byte[] solution = Puzzles.parse(Puzzles.EASY_SOLUTION);
+
+    @Test
+    public void cleanGrid_isLeftAlone() {
+        AmbiguityResolver.Resolution resolution = new AmbiguityResolver().resolve(truth.clone(), read(truth));
+        assertNotNull(resolution);
+        assertArrayEquals(new int[0], resolution.getChangedCells());
+        assertArrayEquals(truth, resolution.getGivens());
+        assertArrayEquals(solution, resolution.getSolution());
+    }
+
+    @Test
+    public void oneMisread_isFixed() {
+        // An empty cell read as a 1: still within the rules, but leaves no solution
+        byte[] cells = truth.clone();
+        float[][] probabilities = read(truth);
+        misread(cells, probabilities, 2, 1);
+        assertEquals(SudokuSolver.NO_SOLUTION, new SudokuSolver().solve(cells, new byte[81]));
+
+        AmbiguityResolver.Resolution resolution = new AmbiguityResolver().resolve(cells, probabilities);
+        assertNotNull(resolution);
+        assertArrayEquals(new int[] {2}, resolution.getChangedCells());
+        assertArrayEquals(truth, resolution.getGivens());
+        assertArrayEquals(solution, resolution.getSolution());
+    }
+
+    @Test
+    public void twoMisreads_areFixed() {
+        // 5 read as 6 and 3 read as 8; fixing either alone still breaks the rules
+        byte[] cells = truth.clone();
+        float[][] probabilities = read(truth);
+        misread(cells, probabilities, 0, 6);
+        misread(cells, probabilities, 1, 8);
+        SudokuGrid grid = new SudokuGrid(cells);
+        grid.setProbabilities(probabilities);
+
+        AmbiguityResolver.Resolution resolution = new AmbiguityResolver().resolve(grid);
+        assertNotNull(resolution);
+        assertArrayEquals(new int[] {0, 1}, resolution.getChangedCells());
+        assertArrayEquals(truth, resolution.getGivens());
+        assertArrayEquals(solution, resolution.getSolution());
+    }
+
+    @Test
+    public void certainCells_areNeverChanged() {
+        byte[] cells = truth.clone();
+        float[][] probabilities = read(truth);
+        misread(cells, probabilities, 0, 6);
+        probabilities[0] = null;
+        assertNull(new AmbiguityResolver().resolve(cells, probabilities));
+    }
+
+    // What the recognizer reports for a clean photo of the puzzle: clues at 0.97 with a faint
+    // second guess, empty cells almost surely blank
+    private static float[][] read(byte[] cells) {
+        float[][] probabilities = new float[81][];
+        for (int i = 0; i < 81; i++) {
+            float[] row = new float[10];
+            if (cells[i] == 0) {
+                row[0] = 0.99f;
+                row[8] = 0.01f;
+            } else {
+                row[cells[i]] = 0.97f;
+                row[cells[i] % 9 + 1] = 0.03f;
+            }
+            probabilities[i] = row;
+        }
+        return probabilities;
+    }
+
+    // The recognizer picks 'read' for the cell but gives its true value a close second place
+    private static void misread(byte[] cells, float[][] probabilities, int cell, int read) {
+        float[] row = new float[10];
+        row[read] = 0.55f;
+        row[cells[cell]] = 0.40f;
+        row[read % 9 + 1] += 0.05f;
+        probabilities[cell] = row;
+        cells[cell] = (byte) read;
+    }
+}
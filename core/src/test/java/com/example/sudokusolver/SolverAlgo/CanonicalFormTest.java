@@ -0,0 +1,169 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CanonicalFormTest {
+
+    private static final int VARIANTS = 20;
+
+    // Every row and column has a different clue count, as does every band and stack, so no
+    // ordering ties are left for line shuffles to expose
+    private static final byte[] STAIRCASE = new byte[81];
+
+    static {
+        byte[] solution = Puzzles.parse(Puzzles.EASY_SOLUTION);
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; r + c < 9; c++) {
+                STAIRCASE[r * 9 + c] = solution[r * 9 + c];
+            }
+        }
+    }
+
+    @Test
+    public void relabelledAndTransposed_shareForm() {
+        Random random = new Random(1);
+        for (String line : Puzzles.UNIQUE) {
+            byte[] puzzle = Puzzles.parse(line);
+            byte[] form = CanonicalForm.of(puzzle).cells;
+            for (int i = 0; i < VARIANTS; i++) {
+                Symmetry symmetry = Symmetry.relabelling(random);
+                assertArrayEquals(line, form, CanonicalForm.of(symmetry.apply(puzzle)).cells);
+            }
+        }
+    }
+
+    @Test
+    public void lineShuffles_shareFormWhenCountsBreakTies() {
+        Random random = new Random(2);
+        byte[] form = CanonicalForm.of(STAIRCASE).cells;
+        for (int i = 0; i < VARIANTS; i++) {
+            Symmetry symmetry = Symmetry.random(random);
+            assertArrayEquals(form, CanonicalForm.of(symmetry.apply(STAIRCASE)).cells);
+        }
+    }
+
+    @Test
+    public void toOriginal_solvesEachVariant() {
+        Random random = new Random(3);
+        SudokuSolver solver = new SudokuSolver();
+        byte[] canonicalSolution = new byte[81];
+        byte[] out = new byte[81];
+        for (String line : Puzzles.UNIQUE) {
+            for (int i = 0; i < VARIANTS; i++) {
+                byte[] variant = Symmetry.random(random).apply(Puzzles.parse(line));
+                CanonicalForm form = CanonicalForm.of(variant);
+                assertEquals(SudokuSolver.UNIQUE, solver.solve(form.cells, canonicalSolution));
+                form.toOriginal(canonicalSolution, out);
+                assertTrue(line, Puzzles.solves(variant, out));
+            }
+        }
+    }
+
+    // Solutions are stored packed and mapped back per request, so a hit must fit the variant asked
+    // about, not the puzzle that filled the cache
+    @Test
+    public void cachedSolution_fitsEachVariant() {
+        Random random = new Random(4);
+        SolutionCache cache = new SolutionCache(64);
+        CachingSudokuSolver solver = new CachingSudokuSolver(cache);
+        byte[] out = new byte[81];
+        int relabelled = 0;
+        for (String line : Puzzles.UNIQUE) {
+            byte[] puzzle = Puzzles.parse(line);
+            byte[] solution = new byte[81];
+            assertEquals(SudokuSolver.UNIQUE, new SudokuSolver().solve(puzzle, solution));
+            assertEquals(SudokuSolver.UNIQUE, solver.solve(puzzle, out));
+            for (int i = 0; i < VARIANTS; i++) {
+                Symmetry symmetry = i % 2 == 0 ? Symmetry.relabelling(random) : Symmetry.random(random);
+                relabelled += i % 2 == 0 ? 1 : 0;
+                assertEquals(SudokuSolver.UNIQUE, solver.solve(symmetry.apply(puzzle), out));
+                assertArrayEquals(line, symmetry.apply(solution), out);
+            }
+        }
+        // Relabelled and transposed variants always land on the form already cached
+        assertTrue(cache.getHits() >= relabelled);
+    }
+
+    // A validity-preserving transformation: optional transposition, then line permutations that
+    // keep bands and stacks together, then a digit relabelling
+    private static final class Symmetry {
+        final boolean transpose;
+        final int[] rows;
+        final int[] cols;
+        final byte[] digits;
+
+        private Symmetry(boolean transpose, int[] rows, int[] cols, byte[] digits) {
+            this.transpose = transpose;
+            this.rows = rows;
+            this.cols = cols;
+            this.digits = digits;
+        }
+
+        static Symmetry relabelling(Random random) {
+            return new Symmetry(random.nextBoolean(), identity(9), identity(9), digits(random));
+        }
+
+        static Symmetry random(Random random) {
+            return new Symmetry(random.nextBoolean(), lines(random), lines(random), digits(random));
+        }
+
+        byte[] apply(byte[] grid) {
+            byte[] out = new byte[81];
+            for (int r = 0; r < 9; r++) {
+                for (int c = 0; c < 9; c++) {
+                    int row = rows[r];
+                    int col = cols[c];
+                    out[r * 9 + c] = digits[transpose ? grid[col * 9 + row] : grid[row * 9 + col]];
+                }
+            }
+            return out;
+        }
+
+        private static int[] lines(Random random) {
+            int[] bands = shuffle(identity(3), random);
+            int[] lines = new int[9];
+            for (int b = 0; b < 3; b++) {
+                int[] inner = shuffle(identity(3), random);
+                for (int i = 0; i < 3; i++) {
+                    lines[b * 3 + i] = bands[b] * 3 + inner[i];
+                }
+            }
+            return lines;
+        }
+
+        private static byte[] digits(Random random) {
+            int[] order = shuffle(identity(9), random);
+            byte[] digits = new byte[10];
+            for (int d = 1; d <= 9; d++) {
+                digits[d] = (byte) (order[d - 1] + 1);
+            }
+            return digits;
+        }
+
+        private static int[] identity(int n) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = i;
+            }
+            return values;
+        }
+
+        private static int[] shuffle(int[] values, Random random) {
+            for (int i = values.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = values[i];
+                values[i] = values[j];
+                values[j] = t;
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HintEngineTest {
+
+    // Logic stalls on this one, so some hints can only come from the solution
+    private static final String GUESSING = Puzzles.UNIQUE[3];
+
+    private final HintEngine engine = new HintEngine();
+
+    @Test
+    public void load_marksGivensAndCandidates() {
+        engine.load(Puzzles.parse(Puzzles.EASY));
+        assertTrue(engine.isGiven(0));
+        assertFalse(engine.isGiven(2));
+        assertEquals(5, engine.getValue(0));
+        assertEquals(0, engine.getCandidates(0));
+        // r0c2 sees 3, 5, 6, 7, 8 and 9; r0c3 sees all but 2 and 6
+        assertEquals(0b1011, engine.getCandidates(2));
+        assertEquals(0b100010, engine.getCandidates(3));
+    }
+
+    @Test
+    public void set_updatesPeerCandidates() {
+        engine.load(Puzzles.parse(Puzzles.EASY));
+        engine.set(2, 2);
+        assertEquals(0, engine.getCandidates(2));
+        assertEquals(0b100000, engine.getCandidates(3));
+        engine.set(2, 0);
+        assertEquals(0b100010, engine.getCandidates(3));
+    }
+
+    @Test
+    public void editedGiven_becomesEntry() {
+        engine.load(Puzzles.parse(Puzzles.EASY));
+        engine.set(0, 0);
+        assertFalse(engine.isGiven(0));
+        assertEquals(0, engine.getValue(0));
+    }
+
+    @Test
+    public void followingHints_solvesEasyByLogic() {
+        engine.load(Puzzles.parse(Puzzles.EASY));
+        int hints = 0;
+        for (HintEngine.Hint hint = engine.nextStep(); hint != null; hint = engine.nextStep()) {
+            assertFalse(hint.isCorrection());
+            assertNotNull(hint.getTechnique());
+            assertEquals(0, engine.getValue(hint.getCell()));
+            engine.set(hint.getCell(), hint.getDigit());
+            hints++;
+        }
+        assertEquals(81 - 30, hints);
+        assertArrayEquals(Puzzles.parse(Puzzles.EASY_SOLUTION), values());
+    }
+
+    @Test
+    public void followingHints_solvesPuzzleThatNeedsGuess() {
+        byte[] expected = new byte[81];
+        assertEquals(SudokuSolver.UNIQUE, new SudokuSolver().solve(Puzzles.parse(GUESSING), expected));
+        engine.load(Puzzles.parse(GUESSING));
+        boolean guessed = false;
+        for (HintEngine.Hint hint = engine.nextStep(); hint != null; hint = engine.nextStep()) {
+            assertEquals(expected[hint.getCell()], hint.getDigit());
+            guessed |= hint.getTechnique() == null;
+            engine.set(hint.getCell(), hint.getDigit());
+        }
+        assertTrue(guessed);
+        assertArrayEquals(expected, values());
+    }
+
+    // r0c2 is 4 in the solution; 1 fits its peers but not the puzzle
+    @Test
+    public void wrongEntry_isCorrected() {
+        engine.load(Puzzles.parse(Puzzles.EASY));
+        engine.set(2, 1);
+        assertFalse(engine.isCorrect(2));
+        assertTrue(engine.isCorrect(0));
+        assertTrue(engine.isCorrect(3));
+        HintEngine.Hint hint = engine.nextStep();
+        assertTrue(hint.isCorrection());
+        assertEquals(2, hint.getCell());
+        assertEquals(4, hint.getDigit());
+        assertNull(hint.getTechnique());
+    }
+
+    @Test
+    public void unsolvableGivens_fallBackToRepeats() {
+        engine.load(Puzzles.parse(Puzzles.INVALID[0]));
+        assertFalse(engine.isCorrect(0));
+        assertFalse(engine.isCorrect(1));
+        assertTrue(engine.isCorrect(2));
+        assertNull(engine.nextStep());
+    }
+
+    @Test
+    public void completeBoard_hasNoHint() {
+        engine.load(Puzzles.parse(Puzzles.EASY_SOLUTION));
+        assertNull(engine.nextStep());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void load_wrongLength_isRejected() {
+        engine.load(new byte[80]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void set_digitOutOfRange_isRejected() {
+        engine.load(new byte[81]);
+        engine.set(0, 10);
+    }
+
+    private byte[] values() {
+        byte[] values = new byte[81];
+        for (int cell = 0; cell < 81; cell++) {
+            values[cell] = (byte) engine.getValue(cell);
+        }
+        return values;
+    }
+}
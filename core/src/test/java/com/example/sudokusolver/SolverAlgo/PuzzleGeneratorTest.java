@@ -0,0 +1,101 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.Difficulty;
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PuzzleGeneratorTest {
+
+    private final SudokuSolver solver = new SudokuSolver();
+
+    @Test
+    public void sameSeed_givesSameSequence() {
+        PuzzleGenerator first = new PuzzleGenerator(7);
+        PuzzleGenerator second = new PuzzleGenerator(7);
+        for (int i = 0; i < 5; i++) {
+            PuzzleGenerator.Puzzle a = first.generate(PuzzleGenerator.Symmetry.ROTATIONAL, Difficulty.MEDIUM);
+            PuzzleGenerator.Puzzle b = second.generate(PuzzleGenerator.Symmetry.ROTATIONAL, Difficulty.MEDIUM);
+            assertArrayEquals(a.getGivens(), b.getGivens());
+            assertArrayEquals(a.getSolution(), b.getSolution());
+            assertEquals(a.getDifficulty(), b.getDifficulty());
+        }
+    }
+
+    @Test
+    public void otherSeed_givesOtherPuzzle() {
+        byte[] a = new PuzzleGenerator(1).generate(PuzzleGenerator.Symmetry.NONE).getGivens();
+        byte[] b = new PuzzleGenerator(2).generate(PuzzleGenerator.Symmetry.NONE).getGivens();
+        assertFalse(Arrays.equals(a, b));
+    }
+
+    @Test
+    public void puzzles_haveOnlyTheirSolution() {
+        PuzzleGenerator generator = new PuzzleGenerator(11);
+        for (PuzzleGenerator.Symmetry symmetry : PuzzleGenerator.Symmetry.values()) {
+            for (int i = 0; i < 10; i++) {
+                PuzzleGenerator.Puzzle puzzle = generator.generate(symmetry);
+                byte[] out = new byte[81];
+                assertEquals(SudokuSolver.UNIQUE, solver.solve(puzzle.getGivens(), out));
+                assertArrayEquals(puzzle.getSolution(), out);
+                assertTrue(Puzzles.solves(puzzle.getGivens(), puzzle.getSolution()));
+            }
+        }
+    }
+
+    // Removal stops only when no single clue can go, so every clue left is needed
+    @Test
+    public void puzzles_areMinimal() {
+        PuzzleGenerator.Puzzle puzzle = new PuzzleGenerator(3).generate(PuzzleGenerator.Symmetry.NONE);
+        byte[] givens = puzzle.getGivens().clone();
+        for (int cell = 0; cell < 81; cell++) {
+            if (givens[cell] == 0) {
+                continue;
+            }
+            byte digit = givens[cell];
+            givens[cell] = 0;
+            assertEquals("Clue " + cell, SudokuSolver.MULTIPLE, solver.countSolutions(givens, 2));
+            givens[cell] = digit;
+        }
+    }
+
+    @Test
+    public void rotational_keepsCentreSymmetry() {
+        PuzzleGenerator generator = new PuzzleGenerator(5);
+        for (int i = 0; i < 10; i++) {
+            byte[] givens = generator.generate(PuzzleGenerator.Symmetry.ROTATIONAL).getGivens();
+            for (int cell = 0; cell < 81; cell++) {
+                assertEquals(givens[cell] == 0, givens[80 - cell] == 0);
+            }
+        }
+    }
+
+    @Test
+    public void mirror_keepsLeftRightSymmetry() {
+        PuzzleGenerator generator = new PuzzleGenerator(5);
+        for (int i = 0; i < 10; i++) {
+            byte[] givens = generator.generate(PuzzleGenerator.Symmetry.MIRROR).getGivens();
+            for (int cell = 0; cell < 81; cell++) {
+                assertEquals(givens[cell] == 0, givens[cell / 9 * 9 + 8 - cell % 9] == 0);
+            }
+        }
+    }
+
+    @Test
+    public void target_isReachedAndMatchesGrader() {
+        PuzzleGenerator generator = new PuzzleGenerator(9);
+        LogicalSolver grader = new LogicalSolver();
+        for (Difficulty target : new Difficulty[] {Difficulty.EASY, Difficulty.MEDIUM, Difficulty.EXPERT}) {
+            PuzzleGenerator.Puzzle puzzle = generator.generate(PuzzleGenerator.Symmetry.NONE, target);
+            assertEquals(target, puzzle.getDifficulty());
+            assertEquals(target, grader.solve(puzzle.getGivens(), new byte[81]).getDifficulty());
+        }
+    }
+}
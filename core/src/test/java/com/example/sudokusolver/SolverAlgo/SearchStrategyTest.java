@@ -0,0 +1,83 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Restarts and tie-breaking change the path, never the answer
+public class SearchStrategyTest {
+
+    // Restarts after a single node, so nearly every puzzle goes through several of them
+    private static final SearchStrategy EAGER = new SearchStrategy(true, true, 1, 2, 7);
+
+    private static final int[] LIMITS = {1, 2, 10, 100};
+
+    @Test
+    public void robust_countsLikePlain() {
+        assertSameCounts(SearchStrategy.ROBUST);
+    }
+
+    @Test
+    public void eagerRestarts_countLikePlain() {
+        assertSameCounts(EAGER);
+    }
+
+    // Tie-breaks alone, without restarts
+    @Test
+    public void orderingOnly_countsLikePlain() {
+        assertSameCounts(new SearchStrategy(true, true, 0, 1, 7));
+    }
+
+    @Test
+    public void robust_solvesLikePlain() {
+        SudokuSolver plain = new SudokuSolver();
+        SudokuSolver robust = new SudokuSolver();
+        robust.setStrategy(SearchStrategy.ROBUST);
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] expected = new byte[81];
+            byte[] actual = new byte[81];
+            int result = plain.solve(puzzle, expected);
+            assertEquals(result, robust.solve(puzzle, actual));
+            if (result == SudokuSolver.UNIQUE) {
+                assertArrayEquals(expected, actual);
+            } else if (result == SudokuSolver.MULTIPLE) {
+                assertTrue(Puzzles.solves(puzzle, actual));
+            }
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullStrategy_isRejected() {
+        new SudokuSolver().setStrategy(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void restartsWithoutGrowth_areRejected() {
+        new SearchStrategy(false, false, 100, 1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroGrowth_isRejected() {
+        new SearchStrategy(true, true, 0, 0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBudget_isRejected() {
+        new SearchStrategy(false, false, -1, 2, 0);
+    }
+
+    private static void assertSameCounts(SearchStrategy strategy) {
+        SudokuSolver plain = new SudokuSolver();
+        SudokuSolver other = new SudokuSolver();
+        other.setStrategy(strategy);
+        for (byte[] puzzle : Puzzles.all()) {
+            for (int limit : LIMITS) {
+                assertEquals(plain.countSolutions(puzzle, limit), other.countSolutions(puzzle, limit));
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SolveControlTest {
+
+    private final SudokuSolver solver = new SudokuSolver();
+
+    @Test
+    public void cancelBeforeStart_returnsCancelled() {
+        SolveControl control = new SolveControl();
+        control.cancel();
+        byte[] out = new byte[81];
+        assertEquals(SudokuSolver.CANCELLED, solver.solve(Puzzles.parse(Puzzles.EASY), out, control));
+        assertTrue(control.isStopped());
+        assertArrayEquals(new byte[81], out);
+    }
+
+    @Test
+    public void expiredDeadline_returnsCancelled() {
+        SolveControl control = new SolveControl(0, TimeUnit.MILLISECONDS);
+        assertEquals(SudokuSolver.CANCELLED, solver.solve(Puzzles.parse(Puzzles.EASY), new byte[81], control));
+        assertTrue(control.isStopped());
+    }
+
+    // Counting every solution of an empty grid never ends on its own, so only the cancel stops it
+    @Test
+    public void cancelFromListener_stopsSearch() {
+        SolveControl control = new SolveControl();
+        AtomicLong polledAt = new AtomicLong();
+        control.setProgressListener((nodes, depth) -> {
+            polledAt.set(nodes);
+            control.cancel();
+        });
+        assertEquals(SudokuSolver.CANCELLED, solver.countSolutions(new byte[81], Integer.MAX_VALUE, control));
+        assertTrue(control.isStopped());
+        assertTrue(polledAt.get() >= SolveControl.CHECK_INTERVAL);
+    }
+
+    @Test
+    public void unusedControl_leavesResultAlone() {
+        SolveControl control = new SolveControl(1, TimeUnit.MINUTES);
+        byte[] out = new byte[81];
+        assertEquals(SudokuSolver.UNIQUE, solver.solve(Puzzles.parse(Puzzles.EASY), out, control));
+        assertArrayEquals(Puzzles.parse(Puzzles.EASY_SOLUTION), out);
+        assertFalse(control.isStopped());
+    }
+
+    // A stopped search must not leak into the next call on the same solver
+    @Test
+    public void solveAfterCancel_isReportedNormally() {
+        assertEquals(SudokuSolver.CANCELLED,
+                solver.countSolutions(new byte[81], Integer.MAX_VALUE, cancelAtFirstPoll()));
+        byte[] invalid = Puzzles.parse(Puzzles.INVALID[0]);
+        assertEquals(SudokuSolver.INVALID, solver.solve(invalid, new byte[81]));
+        assertEquals(SudokuSolver.INVALID, solver.solve(invalid, new byte[81], new SolveControl()));
+        assertEquals(SudokuSolver.UNIQUE, solver.solve(Puzzles.parse(Puzzles.EASY), new byte[81], new SolveControl()));
+    }
+
+    @Test
+    public void sixteenBySixteen_solveAfterCancel_isReportedNormally() {
+        GeneralSudokuSolver general = new GeneralSudokuSolver(4);
+        byte[] empty = new byte[256];
+        assertEquals(SudokuSolver.CANCELLED, general.countSolutions(empty, Integer.MAX_VALUE, cancelAtFirstPoll()));
+        byte[] invalid = new byte[256];
+        invalid[0] = 5;
+        invalid[1] = 5;
+        assertEquals(SudokuSolver.INVALID, general.solve(invalid, new byte[256]));
+        assertEquals(SudokuSolver.INVALID, general.solve(invalid, new byte[256], new SolveControl()));
+        assertEquals(SudokuSolver.MULTIPLE, general.countSolutions(empty, 2));
+    }
+
+    @Test
+    public void parallel_cancelBeforeStart_returnsCancelled() {
+        SolveControl control = new SolveControl();
+        control.cancel();
+        assertEquals(SudokuSolver.CANCELLED,
+                new ParallelSudokuSolver().solve(Puzzles.parse(Puzzles.EASY), new byte[81], control));
+    }
+
+    private static SolveControl cancelAtFirstPoll() {
+        SolveControl control = new SolveControl();
+        control.setProgressListener((nodes, depth) -> control.cancel());
+        return control;
+    }
+}
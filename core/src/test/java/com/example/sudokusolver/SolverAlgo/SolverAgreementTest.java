@@ -0,0 +1,93 @@
+package com.example.sudokusolver.SolverAlgo;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+// Every engine must give the same answer on the corpus; the backtracking solver is the reference
+public class SolverAgreementTest {
+
+    private final SudokuSolver reference = new SudokuSolver();
+
+    @Test
+    public void reference_classifiesCorpus() {
+        expect(Puzzles.UNIQUE, SudokuSolver.UNIQUE);
+        expect(Puzzles.INVALID, SudokuSolver.INVALID);
+        expect(Puzzles.MULTIPLE, SudokuSolver.MULTIPLE);
+        expect(Puzzles.UNSOLVABLE, SudokuSolver.NO_SOLUTION);
+    }
+
+    @Test
+    public void dancingLinks_agrees() {
+        DancingLinksSolver dlx = new DancingLinksSolver();
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] out = new byte[81];
+            check(puzzle, dlx.solve(puzzle.clone(), out), out);
+            assertEquals(reference.countSolutions(puzzle, 2), dlx.countSolutions(puzzle.clone(), 2));
+        }
+    }
+
+    @Test
+    public void dancingLinksEngine_agrees() {
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] out = new byte[81];
+            check(puzzle, reference.solve(puzzle.clone(), out, SudokuSolver.Engine.DANCING_LINKS), out);
+        }
+    }
+
+    @Test
+    public void parallel_agrees() {
+        ParallelSudokuSolver parallel = new ParallelSudokuSolver();
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] out = new byte[81];
+            check(puzzle, parallel.solve(puzzle.clone(), out), out);
+            assertEquals(reference.countSolutions(puzzle, 2), parallel.countSolutions(puzzle.clone(), 2));
+        }
+    }
+
+    @Test
+    public void batch_agrees() {
+        List<byte[]> puzzles = Puzzles.all();
+        SolveResult[] results = new BatchSudokuSolver().solveAll(puzzles.toArray(new byte[0][]));
+        assertEquals(puzzles.size(), results.length);
+        for (int i = 0; i < results.length; i++) {
+            byte[] puzzle = puzzles.get(i);
+            byte[] expected = new byte[81];
+            SolveResult want = SudokuSolver.toResult(reference.solve(puzzle, expected), expected);
+            assertEquals(want.getStatus(), results[i].getStatus());
+            if (want.getStatus() == SolveResult.Status.UNIQUE) {
+                assertArrayEquals(want.getSolution(), results[i].getSolution());
+            } else if (results[i].isSolved()) {
+                assertTrue(Puzzles.solves(puzzle, results[i].getSolution()));
+            } else {
+                assertNull(results[i].getSolution());
+            }
+        }
+    }
+
+    private void expect(String[] lines, int result) {
+        for (String line : lines) {
+            assertEquals(line, result, reference.solve(Puzzles.parse(line), new byte[81]));
+        }
+    }
+
+    // A unique solution must match the reference exactly; with several, any valid one will do
+    private void check(byte[] puzzle, int result, byte[] solution) {
+        byte[] expected = new byte[81];
+        int want = reference.solve(puzzle, expected);
+        assertEquals(want, result);
+        if (want == SudokuSolver.UNIQUE) {
+            assertArrayEquals(expected, solution);
+        } else if (want == SudokuSolver.MULTIPLE) {
+            assertTrue(Puzzles.solves(puzzle, solution));
+        }
+    }
+}
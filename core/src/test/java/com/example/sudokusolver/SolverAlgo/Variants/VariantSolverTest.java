@@ -0,0 +1,219 @@
+package com.example.sudokusolver.SolverAlgo.Variants;
+
+import com.example.sudokusolver.Puzzles;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VariantSolverTest {
+
+    // EASY_SOLUTION with r6c3, r6c8, r7c3 and r7c8 cleared: a rectangle of 5s and 4s that can be
+    // swapped, so classic rules leave exactly two solutions
+    private static final int[] RECTANGLE = {57, 62, 66, 71};
+
+    private final SudokuSolver reference = new SudokuSolver();
+
+    @Test
+    public void classic_agreesWithReference() {
+        VariantSolver variant = new VariantSolver(VariantPuzzle.classic().build());
+        for (byte[] puzzle : Puzzles.all()) {
+            byte[] expected = new byte[81];
+            byte[] out = new byte[81];
+            int want = reference.solve(puzzle, expected);
+            assertEquals(want, variant.solve(puzzle.clone(), out));
+            if (want == SudokuSolver.UNIQUE) {
+                assertArrayEquals(expected, out);
+            } else if (want == SudokuSolver.MULTIPLE) {
+                assertTrue(Puzzles.solves(puzzle, out));
+            }
+            assertEquals(reference.countSolutions(puzzle, 2), variant.countSolutions(puzzle.clone(), 2));
+        }
+    }
+
+    @Test
+    public void rectangle_isAmbiguousUnderClassicRules() {
+        assertEquals(SudokuSolver.MULTIPLE, new VariantSolver(VariantPuzzle.classic().build())
+                .countSolutions(rectangle(), 2));
+    }
+
+    // r6c2 holds 1, so a sum of 6 over r6c2 and r6c3 forces the 5 back into r6c3
+    @Test
+    public void killerCage_decidesRectangle() {
+        VariantPuzzle puzzle = VariantPuzzle.classic().cage(6, 56, 57).build();
+        byte[] out = new byte[81];
+        assertEquals(SudokuSolver.UNIQUE, new VariantSolver(puzzle).solve(rectangle(), out));
+        assertArrayEquals(Puzzles.parse(Puzzles.EASY_SOLUTION), out);
+    }
+
+    @Test
+    public void killerCage_brokenByGivens_isInvalid() {
+        VariantPuzzle puzzle = VariantPuzzle.classic().cage(7, 56, 57).build();
+        assertEquals(SudokuSolver.INVALID,
+                new VariantSolver(puzzle).solve(Puzzles.parse(Puzzles.EASY_SOLUTION), new byte[81]));
+    }
+
+    @Test
+    public void killerCages_holdInSolution() {
+        // Two-cell cages along every row with the sums of EASY_SOLUTION; the last column stays free
+        VariantPuzzle.Builder builder = VariantPuzzle.classic();
+        byte[] expected = Puzzles.parse(Puzzles.EASY_SOLUTION);
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 8; col += 2) {
+                int cell = row * 9 + col;
+                builder.cage(expected[cell] + expected[cell + 1], cell, cell + 1);
+            }
+        }
+        byte[] out = new byte[81];
+        int result = new VariantSolver(builder.build()).solve(Puzzles.parse(Puzzles.EASY), out);
+        assertEquals(SudokuSolver.UNIQUE, result);
+        assertArrayEquals(expected, out);
+    }
+
+    @Test
+    public void evenOdd_decidesRectangle() {
+        byte[] out = new byte[81];
+        VariantPuzzle odd = VariantPuzzle.classic().odd(57).build();
+        assertEquals(SudokuSolver.UNIQUE, new VariantSolver(odd).solve(rectangle(), out));
+        assertArrayEquals(Puzzles.parse(Puzzles.EASY_SOLUTION), out);
+
+        VariantPuzzle even = VariantPuzzle.classic().even(57).build();
+        assertEquals(SudokuSolver.UNIQUE, new VariantSolver(even).solve(rectangle(), out));
+        assertEquals(4, out[57]);
+        assertEquals(5, out[66]);
+        assertTrue(Puzzles.solves(rectangle(), out));
+    }
+
+    @Test
+    public void evenOdd_disallowedGiven_isInvalid() {
+        byte[] grid = new byte[81];
+        grid[0] = 2;
+        assertEquals(SudokuSolver.INVALID,
+                new VariantSolver(VariantPuzzle.classic().odd(0).build()).solve(grid, new byte[81]));
+    }
+
+    @Test
+    public void diagonals_holdInSolution() {
+        byte[] out = new byte[81];
+        VariantSolver solver = new VariantSolver(VariantPuzzle.classic().diagonals().build());
+        assertEquals(SudokuSolver.MULTIPLE, solver.solve(new byte[81], out));
+        assertTrue(Puzzles.solves(new byte[81], out));
+        int main = 0;
+        int anti = 0;
+        for (int i = 0; i < 9; i++) {
+            main |= 1 << out[i * 9 + i];
+            anti |= 1 << out[i * 9 + 8 - i];
+        }
+        assertEquals(0b1111111110, main);
+        assertEquals(0b1111111110, anti);
+    }
+
+    // r0c0 and r4c4 share no row, column or box, only the main diagonal
+    @Test
+    public void diagonals_repeatOnDiagonal_isInvalid() {
+        byte[] grid = new byte[81];
+        grid[0] = 1;
+        grid[40] = 1;
+        assertEquals(SudokuSolver.MULTIPLE,
+                new VariantSolver(VariantPuzzle.classic().build()).countSolutions(grid, 2));
+        assertEquals(SudokuSolver.INVALID,
+                new VariantSolver(VariantPuzzle.classic().diagonals().build()).countSolutions(grid, 2));
+    }
+
+    // Rotating every row one column left maps boxes onto regions that straddle the box borders;
+    // EASY moved the same way must then solve to EASY_SOLUTION moved the same way
+    @Test
+    public void jigsaw_solvesShiftedPuzzle() {
+        int[] regionOf = new int[81];
+        for (int cell = 0; cell < 81; cell++) {
+            int row = cell / 9;
+            int col = (cell % 9 + 1) % 9;
+            regionOf[cell] = row / 3 * 3 + col / 3;
+        }
+        byte[] givens = shifted(Puzzles.parse(Puzzles.EASY));
+        byte[] out = new byte[81];
+        assertEquals(SudokuSolver.UNIQUE,
+                new VariantSolver(VariantPuzzle.jigsaw(regionOf).build()).solve(givens, out));
+        assertArrayEquals(shifted(Puzzles.parse(Puzzles.EASY_SOLUTION)), out);
+        assertNotEquals(SudokuSolver.UNIQUE, reference.countSolutions(givens, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void region_ofEightCells_isRejected() {
+        VariantPuzzle.classic().region(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void region_withRepeatedCell_isRejected() {
+        VariantPuzzle.classic().region(0, 1, 2, 3, 4, 5, 6, 7, 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void region_withCellOutOfRange_isRejected() {
+        VariantPuzzle.classic().region(0, 1, 2, 3, 4, 5, 6, 7, 81);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cage_withoutCells_isRejected() {
+        VariantPuzzle.classic().cage(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cage_withImpossibleSum_isRejected() {
+        // Two distinct digits add up to at least 3
+        VariantPuzzle.classic().cage(2, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cage_overlappingAnother_isRejected() {
+        VariantPuzzle.classic().cage(3, 0, 1).cage(3, 1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void restrict_withCellOutOfRange_isRejected() {
+        VariantPuzzle.classic().even(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jigsaw_withWrongLength_isRejected() {
+        VariantPuzzle.jigsaw(new int[80]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jigsaw_withOversizedRegion_isRejected() {
+        // Every cell in region 0
+        VariantPuzzle.jigsaw(new int[81]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jigsaw_withRegionOutOfRange_isRejected() {
+        int[] regionOf = new int[81];
+        for (int cell = 0; cell < 81; cell++) {
+            regionOf[cell] = cell / 9;
+        }
+        regionOf[80] = 9;
+        VariantPuzzle.jigsaw(regionOf);
+    }
+
+    private static byte[] rectangle() {
+        byte[] grid = Puzzles.parse(Puzzles.EASY_SOLUTION);
+        for (int cell : RECTANGLE) {
+            grid[cell] = 0;
+        }
+        return grid;
+    }
+
+    // Each row rotated one column to the left
+    private static byte[] shifted(byte[] grid) {
+        byte[] out = new byte[81];
+        for (int cell = 0; cell < 81; cell++) {
+            int row = cell / 9;
+            out[cell] = grid[row * 9 + (cell % 9 + 1) % 9];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.sudokusolver.Storage;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Puzzles;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class HistoryStoreTest {
+
+    // Past the initial mapping of 256 records, so the file has to grow at least once
+    private static final int RECORDS = 600;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void records_surviveReopen() throws IOException {
+        File path = new File(folder.getRoot(), "history.bin");
+        try (HistoryStore store = HistoryStore.open(path)) {
+            for (int i = 0; i < RECORDS; i++) {
+                store.append(givens(i), result(i), i + 1, 1000L + i);
+            }
+            assertEquals(RECORDS, store.size());
+        }
+
+        try (HistoryStore store = HistoryStore.open(path)) {
+            assertEquals(RECORDS, store.size());
+            for (int i = 0; i < RECORDS; i++) {
+                HistoryStore.Entry entry = store.findByGivens(givens(i));
+                assertArrayEquals(givens(i), entry.getGivens());
+                assertEquals(result(i).getStatus(), entry.getStatus());
+                assertEquals(1000L + i, entry.getTimestamp());
+                assertEquals(i + 1, entry.getSourceHash());
+                if (entry.getStatus().isSolved()) {
+                    assertArrayEquals(result(i).getSolution(), entry.getSolution());
+                } else {
+                    assertNull(entry.getSolution());
+                }
+                assertEquals(1000L + i, store.findBySource(i + 1).getTimestamp());
+            }
+            assertNull(store.findByGivens(new byte[81]));
+            assertNull(store.findBySource(HistoryStore.NO_SOURCE));
+
+            // Appends after a reopen land after the old records, not over them
+            store.append(new byte[81], result(0), HistoryStore.NO_SOURCE, 1);
+        }
+
+        try (HistoryStore store = HistoryStore.open(path)) {
+            assertEquals(RECORDS + 1, store.size());
+            assertEquals(1, store.findByGivens(new byte[81]).getTimestamp());
+            assertEquals(1000L, store.findByGivens(givens(0)).getTimestamp());
+        }
+    }
+
+    @Test
+    public void latestRecord_wins() throws IOException {
+        File path = new File(folder.getRoot(), "history.bin");
+        try (HistoryStore store = HistoryStore.open(path)) {
+            store.append(givens(7), result(1), 42, 1);
+            store.append(givens(7), result(0), 42, 2);
+        }
+        try (HistoryStore store = HistoryStore.open(path)) {
+            assertEquals(2, store.findByGivens(givens(7)).getTimestamp());
+            assertEquals(2, store.findBySource(42).getTimestamp());
+        }
+    }
+
+    @Test
+    public void foreignFile_isRejectedAndKept() throws IOException {
+        File path = folder.newFile("notes.txt");
+        byte[] content = "not a history store, just some text".getBytes("UTF-8");
+        Files.write(path.toPath(), content);
+        try {
+            HistoryStore.open(path).close();
+            fail("Opened a foreign file");
+        } catch (IOException expected) {
+            // ok
+        }
+        assertArrayEquals(content, Files.readAllBytes(path.toPath()));
+    }
+
+    // A distinct grid per index: one digit in one cell
+    private static byte[] givens(int i) {
+        byte[] cells = new byte[81];
+        cells[i % 81] = (byte) (1 + i / 81 % 9);
+        return cells;
+    }
+
+    private static SolveResult result(int i) {
+        if (i % 2 == 0) {
+            return new SolveResult(SolveResult.Status.MULTIPLE, Puzzles.parse(Puzzles.EASY_SOLUTION));
+        }
+        return new SolveResult(SolveResult.Status.UNSOLVABLE, null);
+    }
+}
@@ -0,0 +1,21 @@
+plugins {
+    application
+}
+
+// Virtual threads need 21; the core library it uses stays on 11
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(libs.gson)
+    testImplementation(libs.junit)
+}
+
+application {
+    mainClass = "com.example.sudokusolver.Gateway.SudokuServer"
+    applicationName = "sudoku-server"
+}
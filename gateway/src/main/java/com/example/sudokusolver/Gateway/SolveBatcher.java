@@ -0,0 +1,144 @@
+package com.example.sudokusolver.Gateway;
+
+import com.example.sudokusolver.SolverAlgo.SearchStrategy;
+import com.example.sudokusolver.SolverAlgo.SolveControl;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// Funnels requests from any number of connection threads onto a fixed set of solver threads, one
+// per core, each with its own SudokuSolver. A worker woken by one job takes everything else queued
+// up to the batch size in the same lock acquisition, so under load the hand-off cost is paid per
+// batch rather than per puzzle. The queue is bounded; when it is full, submit() refuses the job.
+final class SolveBatcher implements AutoCloseable {
+
+    enum Op {
+        SOLVE,
+        COUNT,
+        VALIDATE
+    }
+
+    static final class Job {
+        final Op op;
+        final byte[] cells;
+        final int limit;
+        // Filled by SOLVE when a solution is found
+        final byte[] solution = new byte[CELLS];
+        // SudokuSolver result code (or solution count), or 1/0 for VALIDATE
+        int result;
+        final CompletableFuture<Job> done = new CompletableFuture<>();
+
+        Job(Op op, byte[] cells, int limit) {
+            this.op = op;
+            this.cells = cells;
+            this.limit = limit;
+        }
+    }
+
+    private static final int CELLS = 81;
+
+    private final BlockingQueue<Job> queue;
+    private final Thread[] workers;
+    private final int maxBatch;
+    private final long timeoutMs;
+    private volatile boolean closed;
+
+    SolveBatcher(int workerCount, int maxBatch, int capacity, long timeoutMs) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.timeoutMs = timeoutMs;
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "sudoku-solver-" + i);
+            worker.setDaemon(true);
+            workers[i] = worker;
+            worker.start();
+        }
+    }
+
+    // Queues a job; the caller waits on its 'done' future
+    Job submit(Op op, byte[] cells, int limit) {
+        if (closed) {
+            throw new RejectedExecutionException("Solver is shut down.");
+        }
+        Job job = new Job(op, cells, limit);
+        if (!queue.offer(job)) {
+            throw new RejectedExecutionException("Solver queue is full.");
+        }
+        // A close() that drained the queue before the offer will never see this job
+        if (closed && queue.remove(job)) {
+            job.done.cancel(false);
+        }
+        return job;
+    }
+
+    // Stops the workers and cancels every job still queued, so no caller is left waiting. A job that
+    // is already being solved runs to completion (or its timeout); the rest of its batch is cancelled.
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        List<Job> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (Job job : pending) {
+            job.done.cancel(false);
+        }
+    }
+
+    private void work() {
+        SudokuSolver solver = new SudokuSolver();
+        // Grids come from anyone; bound the damage a crafted one can do before the timeout
+        solver.setStrategy(SearchStrategy.ROBUST);
+        List<Job> batch = new ArrayList<>(maxBatch);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                for (Job job : batch) {
+                    if (closed) {
+                        job.done.cancel(false);
+                        continue;
+                    }
+                    try {
+                        run(solver, job);
+                        job.done.complete(job);
+                    } catch (RuntimeException e) {
+                        job.done.completeExceptionally(e);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            for (Job job : batch) {
+                job.done.cancel(false);
+            }
+        }
+    }
+
+    private void run(SudokuSolver solver, Job job) {
+        switch (job.op) {
+            case SOLVE:
+                job.result = solver.solve(job.cells, job.solution, control());
+                break;
+            case COUNT:
+                job.result = solver.countSolutions(job.cells, job.limit, control());
+                break;
+            default:
+                job.result = solver.isValidGrid(job.cells) ? 1 : 0;
+                break;
+        }
+    }
+
+    // Bounds a single puzzle so a pathological grid cannot hold a worker and its queue
+    private SolveControl control() {
+        return new SolveControl(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.sudokusolver.Gateway;
+
+import com.example.sudokusolver.Models.SolveResult;
+import com.example.sudokusolver.Models.SudokuGrid;
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// Solving over HTTP for clients that cannot run the on-device solver. Every endpoint takes a POST
+// with the JSON shape the /recognize endpoint returns, {"grid": [[...9 rows of 9 ints...]]}, 0
+// for empty cells:
+//
+//     POST /solve              -> {"status": "UNIQUE|MULTIPLE|INVALID|UNSOLVABLE", "grid": [[...]]}
+//     POST /validate           -> {"valid": true|false}
+//     POST /count?limit=N      -> {"valid": true|false, "count": n}   (counting stops at N, default 2)
+//
+// "grid" in a /solve response is present only when solved. Bad input gets 400, a full queue or a
+// puzzle that exceeds the time limit gets 503, always with {"error": "..."}. Connections are
+// served on virtual threads, which simply block while SolveBatcher's workers do the solving.
+public final class SudokuServer {
+
+    private static final int SIZE = 9;
+    private static final int MAX_COUNT_LIMIT = 1000;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String USAGE =
+            "Usage: sudoku-server [--port N] [--workers N] [--batch N] [--queue N] [--timeout-ms N]";
+
+    // Request body; kept separate from SudokuGrid so a missing "grid" is an error, not an empty grid
+    private static final class Request {
+        List<List<Integer>> grid;
+    }
+
+    private final Gson gson = new Gson();
+    private final SolveBatcher batcher;
+
+    private SudokuServer(SolveBatcher batcher) {
+        this.batcher = batcher;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        int workers = Runtime.getRuntime().availableProcessors();
+        int batch = 64;
+        int queue = 65536;
+        long timeoutMs = 2000;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--workers":
+                        workers = Integer.parseInt(args[++i]);
+                        break;
+                    case "--batch":
+                        batch = Integer.parseInt(args[++i]);
+                        break;
+                    case "--queue":
+                        queue = Integer.parseInt(args[++i]);
+                        break;
+                    case "--timeout-ms":
+                        timeoutMs = Long.parseLong(args[++i]);
+                        break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        if (workers < 1 || batch < 1 || queue < 1 || timeoutMs < 1) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        HttpServer http = start(new InetSocketAddress(port), new SolveBatcher(workers, batch, queue, timeoutMs));
+        System.err.println("Listening on port " + http.getAddress().getPort() + " with " + workers + " solver workers");
+    }
+
+    // Serves the endpoints on 'address' (port 0 picks a free one) until the returned server is stopped
+    static HttpServer start(InetSocketAddress address, SolveBatcher batcher) throws IOException {
+        SudokuServer server = new SudokuServer(batcher);
+        HttpServer http = HttpServer.create(address, 1024);
+        http.createContext("/solve", exchange -> server.handle(exchange, SolveBatcher.Op.SOLVE));
+        http.createContext("/validate", exchange -> server.handle(exchange, SolveBatcher.Op.VALIDATE));
+        http.createContext("/count", exchange -> server.handle(exchange, SolveBatcher.Op.COUNT));
+        http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        http.start();
+        return http;
+    }
+
+    private void handle(HttpExchange exchange, SolveBatcher.Op op) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                respond(exchange, 405, error("Use POST."));
+                return;
+            }
+            byte[] cells;
+            int limit;
+            try {
+                cells = readCells(exchange);
+                limit = op == SolveBatcher.Op.COUNT ? readLimit(exchange.getRequestURI().getRawQuery()) : 0;
+            } catch (JsonParseException e) {
+                respond(exchange, 400, error("Malformed JSON."));
+                return;
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, error(e.getMessage()));
+                return;
+            }
+
+            SolveBatcher.Job job;
+            try {
+                job = batcher.submit(op, cells, limit).done.join();
+            } catch (RejectedExecutionException e) {
+                respond(exchange, 503, error(e.getMessage()));
+                return;
+            } catch (CompletionException | CancellationException e) {
+                respond(exchange, 500, error("Solving failed."));
+                return;
+            }
+            if (job.result == SudokuSolver.CANCELLED) {
+                respond(exchange, 503, error("Solving timed out."));
+                return;
+            }
+            respond(exchange, 200, body(job));
+        }
+    }
+
+    private Map<String, Object> body(SolveBatcher.Job job) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        switch (job.op) {
+            case SOLVE:
+                SolveResult result = SudokuSolver.toResult(job.result, job.solution);
+                body.put("status", result.getStatus().name());
+                if (result.isSolved()) {
+                    body.put("grid", new SudokuGrid(result.getSolution()).getGrid());
+                }
+                break;
+            case COUNT:
+                body.put("valid", job.result != SudokuSolver.INVALID);
+                body.put("count", Math.max(0, job.result));
+                break;
+            default:
+                body.put("valid", job.result == 1);
+                break;
+        }
+        return body;
+    }
+
+    private byte[] readCells(HttpExchange exchange) throws IOException {
+        Request request;
+        try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            request = gson.fromJson(reader, Request.class);
+        }
+        List<List<Integer>> rows = request != null ? request.grid : null;
+        if (rows == null || rows.size() != SIZE) {
+            throw new IllegalArgumentException("Expected a \"grid\" of " + SIZE + " rows.");
+        }
+        for (List<Integer> row : rows) {
+            if (row == null || row.size() != SIZE) {
+                throw new IllegalArgumentException("Expected " + SIZE + " cells in every row.");
+            }
+            for (Integer value : row) {
+                if (value == null || value < 0 || value > SIZE) {
+                    throw new IllegalArgumentException("Cells must be 0-" + SIZE + ".");
+                }
+            }
+        }
+        return new SudokuGrid(rows).getCells();
+    }
+
+    private static int readLimit(String query) {
+        if (query == null) {
+            return 2;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("limit=")) {
+                int limit;
+                try {
+                    limit = Integer.parseInt(parameter.substring("limit=".length()));
+                } catch (NumberFormatException e) {
+                    limit = 0;
+                }
+                if (limit < 1 || limit > MAX_COUNT_LIMIT) {
+                    throw new IllegalArgumentException("Limit must be 1-" + MAX_COUNT_LIMIT + ".");
+                }
+                return limit;
+            }
+        }
+        return 2;
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        return body;
+    }
+
+    private void respond(HttpExchange exchange, int code, Map<String, Object> body) throws IOException {
+        byte[] json = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(code, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.sudokusolver.Gateway;
+
+import com.example.sudokusolver.SolverAlgo.SudokuSolver;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SolveBatcherTest {
+
+    static final String EASY = "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79";
+    static final String EASY_SOLUTION = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    private SolveBatcher batcher;
+
+    @After
+    public void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    public void jobs_getTheirResults() throws Exception {
+        batcher = new SolveBatcher(2, 8, 64, 1000);
+        SolveBatcher.Job solve = batcher.submit(SolveBatcher.Op.SOLVE, parse(EASY), 0);
+        SolveBatcher.Job count = batcher.submit(SolveBatcher.Op.COUNT, new byte[81], 5);
+        byte[] repeated = parse(EASY);
+        repeated[2] = 5;
+        SolveBatcher.Job validate = batcher.submit(SolveBatcher.Op.VALIDATE, repeated, 0);
+
+        assertEquals(SudokuSolver.UNIQUE, solve.done.get(5, TimeUnit.SECONDS).result);
+        assertArrayEquals(parse(EASY_SOLUTION), solve.solution);
+        assertEquals(5, count.done.get(5, TimeUnit.SECONDS).result);
+        assertEquals(0, validate.done.get(5, TimeUnit.SECONDS).result);
+    }
+
+    // More jobs than one batch, from several threads at once
+    @Test
+    public void concurrentJobs_areAllAnswered() throws Exception {
+        batcher = new SolveBatcher(2, 4, 1024, 1000);
+        List<SolveBatcher.Job> jobs = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    SolveBatcher.Job job = batcher.submit(SolveBatcher.Op.SOLVE, parse(EASY), 0);
+                    synchronized (jobs) {
+                        jobs.add(job);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(200, jobs.size());
+        for (SolveBatcher.Job job : jobs) {
+            assertEquals(SudokuSolver.UNIQUE, job.done.get(5, TimeUnit.SECONDS).result);
+            assertArrayEquals(parse(EASY_SOLUTION), job.solution);
+        }
+    }
+
+    @Test
+    public void timeout_reportsCancelled() throws Exception {
+        batcher = new SolveBatcher(1, 1, 4, 0);
+        SolveBatcher.Job job = batcher.submit(SolveBatcher.Op.COUNT, new byte[81], Integer.MAX_VALUE);
+        assertEquals(SudokuSolver.CANCELLED, job.done.get(5, TimeUnit.SECONDS).result);
+    }
+
+    @Test
+    public void fullQueue_rejectsJob() {
+        batcher = new SolveBatcher(1, 1, 1, 500);
+        // Counting an empty grid keeps the worker busy until the timeout
+        batcher.submit(SolveBatcher.Op.COUNT, new byte[81], Integer.MAX_VALUE);
+        try {
+            for (int i = 0; i < 2; i++) {
+                batcher.submit(SolveBatcher.Op.SOLVE, parse(EASY), 0);
+            }
+            fail("Expected the queue to fill up");
+        } catch (RejectedExecutionException expected) {
+            assertEquals("Solver queue is full.", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void close_cancelsQueuedJobs() throws Exception {
+        batcher = new SolveBatcher(1, 1, 4, 500);
+        SolveBatcher.Job busy = batcher.submit(SolveBatcher.Op.COUNT, new byte[81], Integer.MAX_VALUE);
+        SolveBatcher.Job queued = batcher.submit(SolveBatcher.Op.SOLVE, parse(EASY), 0);
+        batcher.close();
+        try {
+            queued.done.get(5, TimeUnit.SECONDS);
+            fail("Expected the queued job to be cancelled");
+        } catch (CancellationException expected) {
+            assertTrue(queued.done.isCancelled());
+        }
+        // The job already running finishes, here by reaching its timeout
+        try {
+            assertEquals(SudokuSolver.CANCELLED, busy.done.get(5, TimeUnit.SECONDS).result);
+        } catch (CancellationException e) {
+            // Or it was still queued when close() drained the queue
+            assertTrue(busy.done.isCancelled());
+        }
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void submitAfterClose_isRejected() {
+        batcher = new SolveBatcher(1, 1, 4, 500);
+        batcher.close();
+        batcher.submit(SolveBatcher.Op.SOLVE, parse(EASY), 0);
+    }
+
+    static byte[] parse(String line) {
+        byte[] cells = new byte[81];
+        for (int i = 0; i < 81; i++) {
+            char c = line.charAt(i);
+            cells[i] = (byte) (c >= '1' && c <= '9' ? c - '0' : 0);
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.sudokusolver.Gateway;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SudokuServerTest {
+
+    private final Gson gson = new Gson();
+    private SolveBatcher batcher;
+    private HttpServer http;
+
+    @After
+    public void tearDown() {
+        if (http != null) {
+            http.stop(0);
+        }
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    public void solve_returnsStatusAndGrid() throws IOException {
+        start(1000);
+        Response response = post("/solve", grid(SolveBatcherTest.EASY));
+        assertEquals(200, response.code);
+        assertEquals("UNIQUE", response.body.get("status").getAsString());
+        assertEquals(grid(SolveBatcherTest.EASY_SOLUTION), "{\"grid\":" + response.body.get("grid") + "}");
+    }
+
+    @Test
+    public void solve_invalidGrid_hasNoGrid() throws IOException {
+        start(1000);
+        String repeated = "55" + SolveBatcherTest.EASY.substring(2);
+        Response response = post("/solve", grid(repeated));
+        assertEquals(200, response.code);
+        assertEquals("INVALID", response.body.get("status").getAsString());
+        assertFalse(response.body.has("grid"));
+    }
+
+    @Test
+    public void count_stopsAtLimit() throws IOException {
+        start(1000);
+        Response response = post("/count?limit=5", grid(""));
+        assertEquals(200, response.code);
+        assertTrue(response.body.get("valid").getAsBoolean());
+        assertEquals(5, response.body.get("count").getAsInt());
+
+        response = post("/count", grid(""));
+        assertEquals(2, response.body.get("count").getAsInt());
+    }
+
+    @Test
+    public void validate_reportsRepeats() throws IOException {
+        start(1000);
+        assertTrue(post("/validate", grid(SolveBatcherTest.EASY)).body.get("valid").getAsBoolean());
+        assertFalse(post("/validate", grid("55")).body.get("valid").getAsBoolean());
+    }
+
+    @Test
+    public void badRequests_get400() throws IOException {
+        start(1000);
+        assertEquals("Malformed JSON.", error(post("/solve", "{\"grid\": [[1,2"), 400));
+        assertEquals("Expected a \"grid\" of 9 rows.", error(post("/solve", "{}"), 400));
+        assertEquals("Expected 9 cells in every row.",
+                error(post("/solve", "{\"grid\": [[0],[0],[0],[0],[0],[0],[0],[0],[0]]}"), 400));
+        assertEquals("Cells must be 0-9.",
+                error(post("/solve", grid("").replace("[0,", "[10,")), 400));
+        assertEquals("Limit must be 1-1000.", error(post("/count?limit=1001", grid("")), 400));
+        assertEquals("Limit must be 1-1000.", error(post("/count?limit=x", grid("")), 400));
+    }
+
+    @Test
+    public void get_isNotAllowed() throws IOException {
+        start(1000);
+        HttpURLConnection connection = open("/solve");
+        assertEquals(405, connection.getResponseCode());
+        assertEquals("POST", connection.getHeaderField("Allow"));
+    }
+
+    // A zero timeout expires before the search starts
+    @Test
+    public void timeout_gets503() throws IOException {
+        start(0);
+        assertEquals("Solving timed out.", error(post("/solve", grid(SolveBatcherTest.EASY)), 503));
+    }
+
+    private void start(long timeoutMs) throws IOException {
+        batcher = new SolveBatcher(2, 8, 64, timeoutMs);
+        http = SudokuServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), batcher);
+    }
+
+    // {"grid": [...]} from a one-line puzzle, padded with empty cells to 81
+    private static String grid(String line) {
+        StringBuilder json = new StringBuilder("{\"grid\":[");
+        for (int row = 0; row < 9; row++) {
+            json.append(row == 0 ? "[" : ",[");
+            for (int col = 0; col < 9; col++) {
+                int index = row * 9 + col;
+                char c = index < line.length() ? line.charAt(index) : '.';
+                json.append(col == 0 ? "" : ",").append(c >= '1' && c <= '9' ? c - '0' : 0);
+            }
+            json.append(']');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String error(Response response, int code) {
+        assertEquals(code, response.code);
+        return response.body.get("error").getAsString();
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        URL url = URI.create("http://127.0.0.1:" + http.getAddress().getPort() + path).toURL();
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    private Response post(String path, String json) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        int code = connection.getResponseCode();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            in.transferTo(bytes);
+        }
+        return new Response(code, gson.fromJson(bytes.toString(StandardCharsets.UTF_8), JsonObject.class));
+    }
+
+    private static final class Response {
+        final int code;
+        final JsonObject body;
+
+        Response(int code, JsonObject body) {
+            this.code = code;
+            this.body = body;
+        }
+    }
+}
@@ -1,4 +1,4 @@
-from flask import Flask, request, jsonify
+from flask import Flask, Response, request, jsonify
 import numpy as np
 import cv2
 import os
@@ -13,6 +13,32 @@ from sudoku_recognizer import recognize_grid_from_array
 
 app = Flask(__name__)
 
+GRID_MEDIA_TYPE = "application/x-sudoku-grid"
+
+
+def encode_grid(grid):
+    """Binary grid encoding matching GridCodec on the client.
+
+    Format byte 0 is followed by the 81 cells packed two per byte (high nibble first);
+    format byte 1 by an 11-byte presence bitmap (MSB first) and the filled cells' digits
+    packed the same way. The shorter of the two is used.
+    """
+    cells = [int(v) for row in grid for v in row]
+    filled = [v for v in cells if v]
+    if 11 + (len(filled) + 1) // 2 >= 41:
+        cells.append(0)
+        return bytes([0]) + bytes((cells[i] << 4) | cells[i + 1] for i in range(0, 82, 2))
+
+    bitmap = bytearray(11)
+    for i, v in enumerate(cells):
+        if v:
+            bitmap[i // 8] |= 0x80 >> (i % 8)
+    if len(filled) % 2:
+        filled.append(0)
+    digits = bytes((filled[i] << 4) | filled[i + 1] for i in range(0, len(filled), 2))
+    return bytes([1]) + bytes(bitmap) + digits
+
+
 @app.route("/recognize", methods=["POST"])
 def recognize_sudoku():
     if 'image' not in request.files:
@@ -41,6 +67,9 @@ def recognize_sudoku():
 
     try:
         grid = recognize_grid_from_array(image)
+        best = request.accept_mimetypes.best_match([GRID_MEDIA_TYPE, "application/json"])
+        if best == GRID_MEDIA_TYPE:
+            return Response(encode_grid(grid), status=200, mimetype=GRID_MEDIA_TYPE)
         return jsonify({"grid": grid}), 200
     except Exception as e:
         return jsonify({"error": str(e)}), 500
@@ -0,0 +1,62 @@
+"""Dump the digit model inputs /recognize computes for an image, for the client's parity test.
+
+Runs the same steps as the /recognize endpoint and recognize_digit, stopping before the
+classifier, and writes one line per non-blank cell: the row-major cell index followed by the
+1024 pixel values (0-255) of its 32x32 model input. GridExtractorTest in the core module
+compares GridExtractor's output against this file.
+
+    python dump_cells.py defaultSudoku.png \
+        ../../core/src/test/resources/recognition/defaultSudoku.cells
+"""
+import sys
+
+import cv2
+
+from sudoku_recognizer import (center_and_resize, extract_cells_from_grid,
+                               find_biggest_contour, is_blank, preprocess, warp_grid)
+
+
+def fit(image):
+    """Resize and pad to 450x450 exactly as the /recognize endpoint does"""
+    h, w = image.shape[:2]
+    scale = 450 / max(h, w)
+    resized = cv2.resize(image, (int(w * scale), int(h * scale)))
+    pad_h = 450 - resized.shape[0]
+    pad_w = 450 - resized.shape[1]
+    return cv2.copyMakeBorder(resized, 0, pad_h, 0, pad_w,
+                              cv2.BORDER_CONSTANT, value=(0, 0, 0))
+
+
+def model_inputs(image):
+    """(cell index, 32x32 uint8 input) for every non-blank cell, as process_cell sees them"""
+    contour = find_biggest_contour(preprocess(image), image)
+    if contour is None:
+        raise ValueError("Sudoku grid not found in image.")
+    cells = extract_cells_from_grid(warp_grid(image, contour))
+
+    inputs = []
+    for index, cell in enumerate(cell for row in cells for cell in row):
+        gray = cv2.cvtColor(cell, cv2.COLOR_BGR2GRAY)
+        _, threshold_cell = cv2.threshold(gray, 0, 255, cv2.THRESH_BINARY_INV + cv2.THRESH_OTSU)
+        if is_blank(threshold_cell):
+            continue
+        # recognize_digit thresholds the cell a second time before centering it
+        _, threshold_cell = cv2.threshold(threshold_cell, 0, 255, cv2.THRESH_BINARY_INV + cv2.THRESH_OTSU)
+        inputs.append((index, center_and_resize(threshold_cell)))
+    return inputs
+
+
+def main(image_path, out_path):
+    image = cv2.imread(image_path)
+    if image is None:
+        raise FileNotFoundError(f"Image {image_path} not found!")
+    with open(out_path, "w") as out:
+        out.write(f"# model inputs of {image_path}, from dump_cells.py\n")
+        for index, pixels in model_inputs(fit(image)):
+            out.write(f"{index} " + " ".join(str(int(v)) for v in pixels.flatten()) + "\n")
+
+
+if __name__ == "__main__":
+    if len(sys.argv) != 3:
+        sys.exit("Usage: python dump_cells.py IMAGE OUT")
+    main(sys.argv[1], sys.argv[2])
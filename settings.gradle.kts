@@ -21,4 +21,8 @@ dependencyResolutionManagement {
 
 rootProject.name = "Sudoku Solver"
 include(":app")
+include(":core")
+include(":benchmark")
+include(":cli")
+include(":gateway")
  
\ No newline at end of file